@@ -0,0 +1,75 @@
+package io.kestra.benchmarks;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.runners.ExecutorService;
+import io.kestra.core.services.TaskDefaultService;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Execution#withTaskRun(TaskRun)} and {@link Execution#outputs()} on terminated executions with a lot of task
+ * runs or large outputs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExecutionBenchmark {
+    @Param({Fixtures.WIDE_EACH_PARALLEL, Fixtures.LARGE_OUTPUTS})
+    String flowId;
+
+    private ApplicationContext applicationContext;
+    private Execution execution;
+    private TaskRun updated;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        applicationContext = Fixtures.start();
+
+        Flow flow = applicationContext.getBean(TaskDefaultService.class).injectDefaults(Fixtures.flow(applicationContext, flowId));
+        ExecutionSimulator simulator = new ExecutionSimulator(
+            applicationContext.getBean(ExecutorService.class),
+            ExecutionSimulator.outputs(Fixtures.LARGE_OUTPUTS.equals(flowId) ? 64 * 1024 : 128)
+        );
+
+        List<Execution> steps = simulator.run(flow, Fixtures.execution(flow));
+        execution = steps.get(steps.size() - 1);
+
+        // an update in the middle of the task runs, outputs included
+        TaskRun taskRun = execution.getTaskRunList().get(execution.getTaskRunList().size() / 2);
+        updated = taskRun
+            .withOutputs(Map.of("value", "updated"))
+            .withState(State.Type.SUCCESS);
+
+        // outputs are computed once by task run list, the incremental update is only done when already computed
+        execution.outputs();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Execution withTaskRun() throws Exception {
+        return execution.withTaskRun(updated);
+    }
+
+    @Benchmark
+    public Map<String, Object> withTaskRunOutputs() throws Exception {
+        return execution.withTaskRun(updated).outputs();
+    }
+
+    @Benchmark
+    public Map<String, Object> outputs() {
+        // a new list to bypass the outputs computed on the execution
+        return execution.withTaskRunList(new ArrayList<>(execution.getTaskRunList())).outputs();
+    }
+}
@@ -0,0 +1,102 @@
+package io.kestra.benchmarks;
+
+import io.kestra.core.exceptions.InternalException;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.runners.Executor;
+import io.kestra.core.runners.ExecutorService;
+import io.kestra.core.runners.WorkerTask;
+import io.kestra.core.runners.WorkerTaskResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Run an execution to its end on the current thread, without any queue or worker: the executor is called in a loop
+ * like the memory executor does, and the worker tasks are directly ended with the outputs given.
+ */
+public class ExecutionSimulator {
+    private static final int MAX_STEPS = 100_000;
+
+    private final ExecutorService executorService;
+    private final Function<TaskRun, Map<String, Object>> outputs;
+
+    public ExecutionSimulator(ExecutorService executorService, Function<TaskRun, Map<String, Object>> outputs) {
+        this.executorService = executorService;
+        this.outputs = outputs;
+    }
+
+    /**
+     * Outputs with a <code>value</code> of the given size and a few rows, like the ones of a query task.
+     */
+    public static Function<TaskRun, Map<String, Object>> outputs(int size) {
+        return taskRun -> {
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                rows.add(Map.of("index", i, "taskRunId", taskRun.getId(), "value", taskRun.getValue() == null ? "" : taskRun.getValue()));
+            }
+
+            return Map.of(
+                "value", taskRun.getTaskId() + " " + "x".repeat(size),
+                "rows", rows
+            );
+        };
+    }
+
+    /**
+     * @return the execution after each step, the last one being terminated
+     */
+    public List<Execution> run(Flow flow, Execution execution) throws InternalException {
+        List<Execution> steps = new ArrayList<>();
+
+        for (int i = 0; i < MAX_STEPS && !execution.getState().isTerminated(); i++) {
+            execution = this.step(flow, execution);
+            steps.add(execution);
+        }
+
+        if (!execution.getState().isTerminated()) {
+            throw new IllegalStateException("Execution '" + execution.getId() + "' is not terminated after " + MAX_STEPS + " steps");
+        }
+
+        return steps;
+    }
+
+    public Execution step(Flow flow, Execution execution) throws InternalException {
+        Executor executor = executorService.process(new Executor(execution, null).withFlow(flow));
+
+        if (executor.getException() != null) {
+            throw new IllegalStateException(executor.getException());
+        }
+
+        execution = executor.getExecution();
+        if (!executor.getNexts().isEmpty()) {
+            execution = executorService.onNexts(flow, execution, executor.getNexts());
+        }
+
+        List<WorkerTaskResult> results = new ArrayList<>(executor.getWorkerTaskResults());
+        for (WorkerTask workerTask : executor.getWorkerTasks()) {
+            TaskRun running = workerTask.getTaskRun().withState(State.Type.RUNNING);
+
+            if (workerTask.getTask().isFlowable()) {
+                results.add(new WorkerTaskResult(running));
+            } else {
+                results.add(new WorkerTaskResult(running.withOutputs(this.outputs.apply(running)).withState(State.Type.SUCCESS)));
+            }
+        }
+
+        for (WorkerTaskResult result : results) {
+            if (!execution.hasTaskRunJoinable(result.getTaskRun())) {
+                continue;
+            }
+
+            Execution dynamic = executorService.addDynamicTaskRun(execution, flow, result);
+            execution = (dynamic != null ? dynamic : execution).withTaskRun(result.getTaskRun());
+        }
+
+        return execution;
+    }
+}
@@ -0,0 +1,57 @@
+package io.kestra.benchmarks;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.runners.Executor;
+import io.kestra.core.runners.ExecutorService;
+import io.kestra.core.services.TaskDefaultService;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ExecutorService#process(Executor)} on an execution in the middle of its run, and a full run of the flow
+ * without any queue or worker.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExecutorBenchmark {
+    @Param({Fixtures.WIDE_EACH_PARALLEL, Fixtures.DEEP_DAG, Fixtures.HEAVY_TEMPLATING})
+    String flowId;
+
+    private ApplicationContext applicationContext;
+    private ExecutorService executorService;
+    private ExecutionSimulator simulator;
+    private Flow flow;
+    private Execution running;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        applicationContext = Fixtures.start();
+        executorService = applicationContext.getBean(ExecutorService.class);
+        simulator = new ExecutionSimulator(executorService, ExecutionSimulator.outputs(128));
+        flow = applicationContext.getBean(TaskDefaultService.class).injectDefaults(Fixtures.flow(applicationContext, flowId));
+
+        List<Execution> steps = simulator.run(flow, Fixtures.execution(flow));
+        running = steps.get(steps.size() / 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Executor process() {
+        return executorService.process(new Executor(running, null).withFlow(flow));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Execution> run() throws Exception {
+        return simulator.run(flow, Fixtures.execution(flow));
+    }
+}
@@ -0,0 +1,66 @@
+package io.kestra.benchmarks;
+
+import io.kestra.core.serializers.FileSerde;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FileSerde} write and read of the rows of an internal storage file, like the ones of a query task.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FileSerdeBenchmark {
+    @Param({"10000"})
+    int rows;
+
+    private List<Map<String, Object>> values;
+    private byte[] file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        values = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            row.put("name", "row " + i);
+            row.put("amount", i * 1.5D);
+            row.put("enabled", i % 2 == 0);
+            row.put("date", LocalDate.of(2024, 1, 1).plusDays(i % 365));
+            row.put("timestamp", Instant.ofEpochSecond(1_700_000_000L + i));
+            row.put("tags", List.of("a", "b", "c"));
+            row.put("nested", Map.of("key", "value " + i, "null", "none"));
+            values.add(row);
+        }
+
+        file = this.write();
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        for (Map<String, Object> value : values) {
+            FileSerde.write(output, value);
+        }
+
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public void read(Blackhole blackhole) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(file), StandardCharsets.UTF_8))) {
+            FileSerde.reader(reader, blackhole::consume);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.kestra.benchmarks;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.Input;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.serializers.YamlFlowParser;
+import io.kestra.core.utils.IdUtils;
+import io.micronaut.context.ApplicationContext;
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The fixture flows of the benchmarks, stored on <code>src/jmh/resources/flows</code>.
+ */
+public final class Fixtures {
+    public static final String WIDE_EACH_PARALLEL = "wide-each-parallel";
+    public static final String DEEP_DAG = "deep-dag";
+    public static final String HEAVY_TEMPLATING = "heavy-templating";
+    public static final String LARGE_OUTPUTS = "large-outputs";
+
+    private Fixtures() {
+    }
+
+    /**
+     * Start a context with the memory repository and queue, additional environments can switch them, see
+     * <code>application-h2.yml</code>.
+     */
+    public static ApplicationContext start(String... environments) {
+        return ApplicationContext.run(environments);
+    }
+
+    public static Flow flow(ApplicationContext applicationContext, String id) {
+        try (InputStream inputStream = Fixtures.class.getClassLoader().getResourceAsStream("flows/" + id + ".yaml")) {
+            if (inputStream == null) {
+                throw new IllegalArgumentException("Unable to find the fixture flow '" + id + "'");
+            }
+
+            return applicationContext.getBean(YamlFlowParser.class)
+                .parse(IOUtils.toString(inputStream, StandardCharsets.UTF_8), Flow.class)
+                .toBuilder()
+                .revision(1)
+                .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static Execution execution(Flow flow) {
+        Map<String, Object> inputs = new HashMap<>();
+        if (flow.getInputs() != null) {
+            for (Input<?> input : flow.getInputs()) {
+                if (input.getDefaults() != null) {
+                    inputs.put(input.getName(), input.getDefaults());
+                }
+            }
+        }
+
+        return Execution.builder()
+            .id(IdUtils.create())
+            .namespace(flow.getNamespace())
+            .flowId(flow.getId())
+            .flowRevision(flow.getRevision())
+            .inputs(inputs)
+            .state(new State())
+            .build();
+    }
+}
@@ -0,0 +1,74 @@
+package io.kestra.benchmarks;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.runners.ExecutorService;
+import io.kestra.core.services.TaskDefaultService;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Produce a batch of executions on the execution queue and wait for a consumer to receive all of them, on the memory
+ * queue and the H2 one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QueueBenchmark {
+    @Param({"memory", "h2"})
+    String queue;
+
+    @Param({"100"})
+    int messages;
+
+    private ApplicationContext applicationContext;
+    private QueueInterface<Execution> executionQueue;
+    private Runnable cancel;
+    private final Semaphore received = new Semaphore(0);
+    private List<Execution> executions;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() throws Exception {
+        applicationContext = "memory".equals(queue) ? Fixtures.start() : Fixtures.start(queue);
+        executionQueue = applicationContext.getBean(QueueInterface.class, Qualifiers.byName(QueueFactoryInterface.EXECUTION_NAMED));
+
+        Flow flow = applicationContext.getBean(TaskDefaultService.class).injectDefaults(Fixtures.flow(applicationContext, Fixtures.HEAVY_TEMPLATING));
+        ExecutionSimulator simulator = new ExecutionSimulator(applicationContext.getBean(ExecutorService.class), ExecutionSimulator.outputs(128));
+        List<Execution> steps = simulator.run(flow, Fixtures.execution(flow));
+        Execution execution = steps.get(steps.size() - 1);
+
+        executions = new ArrayList<>(messages);
+        for (int i = 0; i < messages; i++) {
+            executions.add(Fixtures.execution(flow).withTaskRunList(execution.getTaskRunList()));
+        }
+
+        cancel = executionQueue.receive(QueueBenchmark.class, either -> received.release());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cancel.run();
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public void emitReceive() throws Exception {
+        for (Execution execution : executions) {
+            executionQueue.emit(execution);
+        }
+
+        if (!received.tryAcquire(messages, 1, TimeUnit.MINUTES)) {
+            throw new TimeoutException("Only " + received.availablePermits() + " messages received on " + messages);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.kestra.benchmarks;
+
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.services.TaskDefaultService;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TaskDefaultService#injectDefaults(Flow)} with the task defaults of the <code>application.yml</code>, done for
+ * each execution by the executor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskDefaultServiceBenchmark {
+    @Param({Fixtures.WIDE_EACH_PARALLEL, Fixtures.DEEP_DAG, Fixtures.HEAVY_TEMPLATING, Fixtures.LARGE_OUTPUTS})
+    String flowId;
+
+    private ApplicationContext applicationContext;
+    private TaskDefaultService taskDefaultService;
+    private Flow flow;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        applicationContext = Fixtures.start();
+        taskDefaultService = applicationContext.getBean(TaskDefaultService.class);
+        flow = Fixtures.flow(applicationContext, flowId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Flow injectDefaults() {
+        return taskDefaultService.injectDefaults(flow);
+    }
+}
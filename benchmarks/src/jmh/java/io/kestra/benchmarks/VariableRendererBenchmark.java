@@ -0,0 +1,67 @@
+package io.kestra.benchmarks;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.runners.ExecutorService;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.runners.VariableRenderer;
+import io.kestra.core.services.TaskDefaultService;
+import io.kestra.core.tasks.log.Log;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link VariableRenderer#recursiveRender(String, Map)} of the messages of the <code>heavy-templating</code> flow, with
+ * the variables of their task run on a terminated execution.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VariableRendererBenchmark {
+    @Param({"constant", "single", "recursive", "filters", "loops", "list"})
+    String taskId;
+
+    private ApplicationContext applicationContext;
+    private VariableRenderer variableRenderer;
+    private List<String> templates;
+    private Map<String, Object> variables;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() throws Exception {
+        applicationContext = Fixtures.start();
+        variableRenderer = applicationContext.getBean(VariableRenderer.class);
+
+        Flow flow = applicationContext.getBean(TaskDefaultService.class)
+            .injectDefaults(Fixtures.flow(applicationContext, Fixtures.HEAVY_TEMPLATING));
+        ExecutionSimulator simulator = new ExecutionSimulator(applicationContext.getBean(ExecutorService.class), ExecutionSimulator.outputs(128));
+        List<Execution> steps = simulator.run(flow, Fixtures.execution(flow));
+        Execution execution = steps.get(steps.size() - 1);
+
+        Log task = (Log) flow.findTaskByTaskId(taskId);
+        TaskRun taskRun = execution.findTaskRunsByTaskId(taskId).get(0);
+
+        templates = task.getMessage() instanceof List ? (List<String>) task.getMessage() : List.of((String) task.getMessage());
+        variables = applicationContext.getBean(RunContextFactory.class)
+            .of(flow, task, execution, taskRun)
+            .getVariables();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public void recursiveRender(Blackhole blackhole) throws Exception {
+        for (String template : templates) {
+            blackhole.consume(variableRenderer.recursiveRender(template, variables));
+        }
+    }
+}
@@ -27,6 +27,8 @@ public class MetricRegistry {
     public final static String METRIC_WORKER_ENDED_DURATION = "worker.ended.duration";
     public final static String METRIC_WORKER_EVALUATE_TRIGGER_DURATION = "worker.evaluate.trigger.duration";
     public final static String METRIC_WORKER_EVALUATE_TRIGGER_RUNNING_COUNT = "worker.evaluate.trigger.running.count";
+    public final static String METRIC_WORKER_LOG_BUFFER_SIZE = "worker.log.buffer.size";
+    public final static String METRIC_WORKER_LOG_DROPPED_COUNT = "worker.log.dropped.count";
 
     public final static String EXECUTOR_TASKRUN_NEXT_COUNT = "executor.taskrun.next.count";
     public final static String EXECUTOR_TASKRUN_ENDED_COUNT = "executor.taskrun.ended.count";
@@ -35,6 +37,8 @@ public class MetricRegistry {
     public final static String EXECUTOR_EXECUTION_STARTED_COUNT = "executor.execution.started.count";
     public final static String EXECUTOR_EXECUTION_END_COUNT = "executor.execution.end.count";
     public final static String EXECUTOR_EXECUTION_DURATION = "executor.execution.duration";
+    public final static String EXECUTOR_FLOW_CACHE_HIT_COUNT = "executor.flow.cache.hit.count";
+    public final static String EXECUTOR_FLOW_CACHE_MISS_COUNT = "executor.flow.cache.miss.count";
 
     public final static String METRIC_INDEXER_REQUEST_COUNT = "indexer.request.count";
     public final static String METRIC_INDEXER_REQUEST_DURATION = "indexer.request.duration";
@@ -55,6 +59,15 @@ public class MetricRegistry {
 
 
     public final static String JDBC_QUERY_DURATION = "jdbc.query.duration";
+    public final static String JDBC_QUEUE_MESSAGE_SIZE = "jdbc.queue.message.size";
+
+    public final static String VARIABLE_RENDERER_CACHE_HIT_COUNT = "variable.renderer.cache.hit.count";
+    public final static String VARIABLE_RENDERER_CACHE_MISS_COUNT = "variable.renderer.cache.miss.count";
+
+    public final static String PURGE_EXECUTION_COUNT = "purge.execution.count";
+    public final static String PURGE_LOG_COUNT = "purge.log.count";
+    public final static String PURGE_STORAGE_COUNT = "purge.storage.count";
+    public final static String PURGE_CHUNK_DURATION = "purge.chunk.duration";
 
     public final static String TAG_TASK_TYPE = "task_type";
     public final static String TAG_FLOW_ID = "flow_id";
@@ -63,6 +76,8 @@ public class MetricRegistry {
     public final static String TAG_ATTEMPT_COUNT = "attempt_count";
     public final static String TAG_WORKER_GROUP = "worker_group";
     public final static String TAG_TENANT_ID = "tenant_id";
+    public final static String TAG_QUEUE_TYPE = "queue_type";
+    public final static String TAG_CODEC = "codec";
 
     @Inject
     private MeterRegistry meterRegistry;
@@ -7,6 +7,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Streams;
 import io.kestra.core.models.Label;
@@ -29,6 +31,7 @@ import io.kestra.core.utils.MapUtils;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.zip.CRC32;
@@ -40,6 +43,10 @@ import javax.validation.constraints.Pattern;
 @Builder(toBuilder = true)
 @Slf4j
 public class Execution implements DeletedInterface, TenantInterface {
+    private static final Cache<List<TaskRun>, Map<String, Object>> OUTPUTS = CacheBuilder.newBuilder()
+        .weakKeys()
+        .build();
+
     @With
     @Hidden
     @Pattern(regexp = "^[a-z0-9][a-z0-9_-]*")
@@ -125,16 +132,25 @@ public class Execution implements DeletedInterface, TenantInterface {
     }
 
     public Execution withTaskRun(TaskRun taskRun) throws InternalException {
-        ArrayList<TaskRun> newTaskRunList = new ArrayList<>(this.taskRunList);
+        if (this.taskRunList == null) {
+            throw new IllegalStateException("Can't replace taskRun '" + taskRun.getId() + "' on execution'" + this.getId() + "'");
+        }
 
-        boolean b = Collections.replaceAll(
-            newTaskRunList,
-            this.findTaskRunByTaskRunId(taskRun.getId()),
-            taskRun
-        );
+        TaskRunIndex index = TaskRunIndex.of(this.taskRunList);
+        int position = index.position(taskRun.getId())
+            .orElseThrow(() -> new InternalException("Can't find taskrun with taskrunId '" + taskRun.getId() + "' on execution '" + this.id + "' " + this.toStringState()));
 
-        if (!b) {
-            throw new IllegalStateException("Can't replace taskRun '" + taskRun.getId() + "' on execution'" + this.getId() + "'");
+        TaskRun previous = this.taskRunList.get(position);
+        TaskRun[] taskRuns = this.taskRunList.toArray(new TaskRun[0]);
+        taskRuns[position] = taskRun;
+        List<TaskRun> newTaskRunList = Arrays.asList(taskRuns);
+
+        // positions are unchanged, the index can be shared with the new list
+        if (Objects.equals(previous.getTaskId(), taskRun.getTaskId()) &&
+            Objects.equals(previous.getParentTaskRunId(), taskRun.getParentTaskRunId())
+        ) {
+            index.attach(newTaskRunList);
+            this.updateOutputs(index, position, previous, taskRun, newTaskRunList);
         }
 
         return new Execution(
@@ -179,17 +195,17 @@ public class Execution implements DeletedInterface, TenantInterface {
             return new ArrayList<>();
         }
 
-        return this.taskRunList
+        return TaskRunIndex.of(this.taskRunList)
+            .positionsByTaskId(id)
             .stream()
-            .filter(taskRun -> taskRun.getTaskId().equals(id))
+            .map(this.taskRunList::get)
             .collect(Collectors.toList());
     }
 
     public TaskRun findTaskRunByTaskRunId(String id) throws InternalException {
-        Optional<TaskRun> find = (this.taskRunList == null ? new ArrayList<TaskRun>() : this.taskRunList)
-            .stream()
-            .filter(taskRun -> taskRun.getId().equals(id))
-            .findFirst();
+        Optional<TaskRun> find = this.taskRunList == null ? Optional.empty() : TaskRunIndex.of(this.taskRunList)
+            .position(id)
+            .map(this.taskRunList::get);
 
         if (find.isEmpty()) {
             throw new InternalException("Can't find taskrun with taskrunId '" + id + "' on execution '" + this.id + "' " + this.toStringState());
@@ -199,9 +215,9 @@ public class Execution implements DeletedInterface, TenantInterface {
     }
 
     public TaskRun findTaskRunByTaskIdAndValue(String id, List<String> values) throws InternalException {
-        Optional<TaskRun> find = (this.taskRunList == null ? new ArrayList<TaskRun>() : this.taskRunList)
+        Optional<TaskRun> find = this.findTaskRunsByTaskId(id)
             .stream()
-            .filter(taskRun -> taskRun.getTaskId().equals(id) && findChildsValues(taskRun, true).equals(values))
+            .filter(taskRun -> findChildsValues(taskRun, true).equals(values))
             .findFirst();
 
         if (find.isEmpty()) {
@@ -269,9 +285,20 @@ public class Execution implements DeletedInterface, TenantInterface {
             return new ArrayList<>();
         }
 
-        return this
-            .getTaskRunList()
-            .stream()
+        TaskRunIndex index = TaskRunIndex.of(this.taskRunList);
+
+        // only look at the task runs that can match, keeping the order of the execution
+        Stream<Integer> positions = parentTaskRun != null ?
+            index.positionsByParentId(parentTaskRun.getId()).stream() :
+            resolvedTasks
+                .stream()
+                .map(resolvedTask -> resolvedTask.getTask().getId())
+                .distinct()
+                .flatMap(taskId -> index.positionsByTaskId(taskId).stream())
+                .sorted();
+
+        return positions
+            .map(this.taskRunList::get)
             .filter(t -> resolvedTasks
                 .stream()
                 .anyMatch(resolvedTask -> FlowableUtils.isTaskRunFor(resolvedTask, t, parentTaskRun))
@@ -614,20 +641,131 @@ public class Execution implements DeletedInterface, TenantInterface {
         return loggingEvent;
     }
 
+    /**
+     * The outputs of all the task runs, by task id and values.
+     * The result is immutable and computed once per task run list, then updated incrementally by
+     * {@link #withTaskRun(TaskRun)} when possible, the maps that are not updated are shared between executions.
+     */
     public Map<String, Object> outputs() {
         if (this.taskRunList == null) {
             return ImmutableMap.of();
         }
 
-        Map<String, Object> result = new HashMap<>();
+        try {
+            return OUTPUTS.get(this.taskRunList, () -> {
+                Map<String, Object> result = new HashMap<>();
+
+                for (TaskRun current : this.taskRunList) {
+                    if (current.getOutputs() != null) {
+                        mergeOutputs(result, outputs(current));
+                    }
+                }
+
+                return freezeOutputs(result);
+            });
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
 
-        for (TaskRun current : this.taskRunList) {
-            if (current.getOutputs() != null) {
-                result = MapUtils.merge(result, outputs(current));
+    private void updateOutputs(TaskRunIndex index, int position, TaskRun previous, TaskRun taskRun, List<TaskRun> newTaskRunList) {
+        Map<String, Object> outputs = OUTPUTS.getIfPresent(this.taskRunList);
+        if (outputs == null) {
+            return;
+        }
+
+        if (Objects.equals(previous.getOutputs(), taskRun.getOutputs())) {
+            OUTPUTS.put(newTaskRunList, outputs);
+            return;
+        }
+
+        // outputs are merged in the task run order, we can only append the outputs of the last task run of this task
+        boolean appendable = previous.getOutputs() == null && index.positionsByTaskId(taskRun.getTaskId())
+            .stream()
+            .noneMatch(i -> i > position && this.taskRunList.get(i).getOutputs() != null);
+
+        if (appendable) {
+            OUTPUTS.put(newTaskRunList, sharedMergeOutputs(outputs, outputs(taskRun)));
+        }
+    }
+
+    /**
+     * Deep merge the outputs in place, with the same semantics as {@link MapUtils#merge(Map, Map)}.
+     * All the maps of the result are copies, so they can be mutated.
+     */
+    @SuppressWarnings("unchecked")
+    private static void mergeOutputs(Map<String, Object> result, Map<String, Object> outputs) {
+        outputs.forEach((key, value) -> {
+            Object original = result.get(key);
+
+            if (value == null) {
+                result.putIfAbsent(key, null);
+            } else if (original instanceof Map && value instanceof Map) {
+                mergeOutputs((Map<String, Object>) original, (Map<String, Object>) value);
+            } else if (original instanceof Collection && value instanceof Collection) {
+                List<Object> list = new ArrayList<>((Collection<Object>) original);
+                list.addAll((Collection<Object>) copyOutputs(value));
+                result.put(key, list);
+            } else {
+                result.put(key, copyOutputs(value));
+            }
+        });
+    }
+
+    /**
+     * Deep merge the outputs on a copy of an immutable outputs tree, only the maps on the merged paths are copied.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> sharedMergeOutputs(Map<String, Object> tree, Map<String, Object> outputs) {
+        Map<String, Object> result = new HashMap<>(tree);
+
+        outputs.forEach((key, value) -> {
+            Object original = result.get(key);
+
+            if (value == null) {
+                result.putIfAbsent(key, null);
+            } else if (original instanceof Map && value instanceof Map) {
+                result.put(key, sharedMergeOutputs((Map<String, Object>) original, (Map<String, Object>) value));
+            } else if (original instanceof Collection && value instanceof Collection) {
+                List<Object> list = new ArrayList<>((Collection<Object>) original);
+                list.addAll(freezeOutputs((List<Object>) copyOutputs(value)));
+                result.put(key, Collections.unmodifiableList(list));
+            } else {
+                result.put(key, freezeOutputs(copyOutputs(value)));
             }
+        });
+
+        return Collections.unmodifiableMap(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copyOutputs(Object value) {
+        if (value instanceof Map) {
+            Map<String, Object> copy = new HashMap<>();
+            ((Map<String, Object>) value).forEach((k, v) -> copy.put(k, copyOutputs(v)));
+            return copy;
+        } else if (value instanceof Collection) {
+            return ((Collection<Object>) value).stream()
+                .map(Execution::copyOutputs)
+                .collect(Collectors.toCollection(ArrayList::new));
         }
 
-        return result;
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T freezeOutputs(T value) {
+        if (value instanceof Map) {
+            Map<String, Object> map = (Map<String, Object>) value;
+            map.replaceAll((k, v) -> freezeOutputs(v));
+            return (T) Collections.unmodifiableMap(map);
+        } else if (value instanceof List) {
+            List<Object> list = (List<Object>) value;
+            list.replaceAll(Execution::freezeOutputs);
+            return (T) Collections.unmodifiableList(list);
+        }
+
+        return value;
     }
 
     private Map<String, Object> outputs(TaskRun taskRun) {
@@ -705,23 +843,15 @@ public class Execution implements DeletedInterface, TenantInterface {
             return new ArrayList<>();
         }
 
+        TaskRunIndex index = TaskRunIndex.of(this.taskRunList);
         ArrayList<TaskRun> result = new ArrayList<>();
 
-        boolean ended = false;
-
-        while (!ended) {
-            final TaskRun finalTaskRun = taskRun;
-            Optional<TaskRun> find = this.taskRunList
-                .stream()
-                .filter(t -> t.getId().equals(finalTaskRun.getParentTaskRunId()))
-                .findFirst();
-
-            if (find.isPresent()) {
-                result.add(find.get());
-                taskRun = find.get();
-            } else {
-                ended = true;
-            }
+        Optional<TaskRun> find = index.position(taskRun.getParentTaskRunId()).map(this.taskRunList::get);
+        while (find.isPresent()) {
+            result.add(find.get());
+            find = find.get().getParentTaskRunId() == null ?
+                Optional.empty() :
+                index.position(find.get().getParentTaskRunId()).map(this.taskRunList::get);
         }
 
         Collections.reverse(result);
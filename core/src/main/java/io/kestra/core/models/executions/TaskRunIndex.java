@@ -0,0 +1,72 @@
+package io.kestra.core.models.executions;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Immutable index of the positions of the {@link TaskRun} of an execution, by id, by task id and by parent id.
+ * Indexes are attached to a task run list by identity and built lazily on first lookup, the list must never be
+ * mutated once given to an {@link Execution}.
+ * As the index only references positions, it stays valid when a task run is replaced by a new version of itself.
+ */
+final class TaskRunIndex {
+    private static final Cache<List<TaskRun>, TaskRunIndex> INDEXES = CacheBuilder.newBuilder()
+        .weakKeys()
+        .build();
+
+    private final Map<String, Integer> byId;
+    private final Map<String, List<Integer>> byTaskId;
+    private final Map<String, List<Integer>> byParentId;
+
+    private TaskRunIndex(List<TaskRun> taskRunList) {
+        Map<String, Integer> byId = new HashMap<>(taskRunList.size());
+        Map<String, List<Integer>> byTaskId = new HashMap<>();
+        Map<String, List<Integer>> byParentId = new HashMap<>();
+
+        for (int i = 0; i < taskRunList.size(); i++) {
+            TaskRun taskRun = taskRunList.get(i);
+
+            byId.putIfAbsent(taskRun.getId(), i);
+            byTaskId.computeIfAbsent(taskRun.getTaskId(), s -> new ArrayList<>()).add(i);
+
+            if (taskRun.getParentTaskRunId() != null) {
+                byParentId.computeIfAbsent(taskRun.getParentTaskRunId(), s -> new ArrayList<>()).add(i);
+            }
+        }
+
+        this.byId = Collections.unmodifiableMap(byId);
+        this.byTaskId = Collections.unmodifiableMap(byTaskId);
+        this.byParentId = Collections.unmodifiableMap(byParentId);
+    }
+
+    static TaskRunIndex of(List<TaskRun> taskRunList) {
+        try {
+            return INDEXES.get(taskRunList, () -> new TaskRunIndex(taskRunList));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Attach this index to a copy of the indexed list where some task runs were replaced by a new version of
+     * themselves (same id, task id and parent id).
+     */
+    void attach(List<TaskRun> taskRunList) {
+        INDEXES.put(taskRunList, this);
+    }
+
+    Optional<Integer> position(String taskRunId) {
+        return Optional.ofNullable(byId.get(taskRunId));
+    }
+
+    List<Integer> positionsByTaskId(String taskId) {
+        return byTaskId.getOrDefault(taskId, List.of());
+    }
+
+    List<Integer> positionsByParentId(String parentTaskRunId) {
+        return byParentId.getOrDefault(parentTaskRunId, List.of());
+    }
+}
@@ -9,6 +9,7 @@ import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.SubflowExecution;
 import io.kestra.core.runners.SubflowExecutionResult;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +26,26 @@ public interface ExecutableTask<T extends Output>{
                                                       Flow currentFlow, Execution currentExecution,
                                                       TaskRun currentTaskRun) throws InternalException;
 
+    /**
+     * Whether {@link #createNextSubflowExecutions} can create subflow executions for this running task run, checked by
+     * the Executor from the task run outputs before creating the RunContext.
+     */
+    default boolean hasNextSubflowExecutions(TaskRun currentTaskRun) {
+        return false;
+    }
+
+    /**
+     * Creates the next SubflowExecution of a running task that doesn't create all its subflow executions at once.
+     * Called by the Executor on each update of the execution, the outputs of the parent task run of the returned
+     * SubflowExecution are saved on the task run.
+     */
+    default List<SubflowExecution<?>> createNextSubflowExecutions(RunContext runContext,
+                                                                  FlowExecutorInterface flowExecutorInterface,
+                                                                  Flow currentFlow, Execution currentExecution,
+                                                                  TaskRun currentTaskRun) throws InternalException {
+        return Collections.emptyList();
+    }
+
     /**
      * Creates a SubflowExecutionResult for a given SubflowExecution
      */
@@ -59,6 +59,10 @@ public class QueueService {
             return ((WorkerTriggerResult) object).getTriggerContext().uid();
         } else if (object.getClass() == ExecutionQueued.class) {
             return ((ExecutionQueued) object).uid();
+        } else if (object.getClass() == ExecutionRunning.class) {
+            return ((ExecutionRunning) object).getExecutionId();
+        } else if (object.getClass() == TaskRun.class) {
+            return ((TaskRun) object).getExecutionId() + "_" + ((TaskRun) object).getId();
         } else {
             throw new IllegalArgumentException("Unknown type '" + object.getClass().getName() + "'");
         }
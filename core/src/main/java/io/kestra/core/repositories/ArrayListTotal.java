@@ -8,8 +8,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 
-import static java.util.stream.Collectors.toCollection;
-
 @Getter
 @NoArgsConstructor
 public class ArrayListTotal<T> extends ArrayList<T> {
@@ -17,6 +15,16 @@ public class ArrayListTotal<T> extends ArrayList<T> {
 
     private long total;
 
+    /**
+     * Whether the total was capped by the count limit of a {@link CursorPageable}, so is only a lower bound.
+     */
+    private boolean totalCapped;
+
+    /**
+     * The cursor of the next page, only set for a {@link CursorPageable} when there are more results.
+     */
+    private String next;
+
     public static <T> ArrayListTotal<T> of(Pageable pageable, List<T> list) {
         int from = (pageable.getNumber() - 1) * pageable.getSize();
         int to = from + pageable.getSize();
@@ -37,10 +45,24 @@ public class ArrayListTotal<T> extends ArrayList<T> {
         this.total = total;
     }
 
+    public ArrayListTotal(List<T> list, long total, boolean totalCapped, String next) {
+        this(list, total);
+        this.totalCapped = totalCapped;
+        this.next = next;
+    }
+
     public <R> ArrayListTotal<R> map(Function<T, R> map) {
-        return this
+        return this.withResults(this
             .stream()
             .map(map)
-            .collect(toCollection(() -> new ArrayListTotal<R>(this.total)));
+            .toList()
+        );
+    }
+
+    /**
+     * @return the given results with the total and the cursor of this page
+     */
+    public <R> ArrayListTotal<R> withResults(List<R> results) {
+        return new ArrayListTotal<>(results, this.total, this.totalCapped, this.next);
     }
 }
@@ -0,0 +1,43 @@
+package io.kestra.core.repositories;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import lombok.Getter;
+
+/**
+ * A page request continued from the cursor of the previous page instead of an offset, and/or with a total counted up
+ * to a limit: on large tables, both a deep offset and an exact total need to read all the matching rows.
+ * The cursor is the {@link ArrayListTotal#getNext()} of the previous page, fetched with the same filters and sort.
+ * Repositories that don't support it use the page number and return an exact total.
+ */
+@Getter
+public class CursorPageable implements Pageable {
+    private final int number;
+
+    private final int size;
+
+    private final Sort sort;
+
+    @Nullable
+    private final String cursor;
+
+    @Nullable
+    private final Integer countLimit;
+
+    private CursorPageable(Pageable pageable, @Nullable String cursor, @Nullable Integer countLimit) {
+        this.number = pageable.getNumber();
+        this.size = pageable.getSize();
+        this.sort = pageable.getSort();
+        this.cursor = cursor;
+        this.countLimit = countLimit;
+    }
+
+    public static Pageable of(Pageable pageable, @Nullable String cursor, @Nullable Integer countLimit) {
+        if (cursor == null && countLimit == null) {
+            return pageable;
+        }
+
+        return new CursorPageable(pageable, cursor, countLimit);
+    }
+}
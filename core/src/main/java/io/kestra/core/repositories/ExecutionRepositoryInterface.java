@@ -53,6 +53,43 @@ public interface ExecutionRepositoryInterface extends SaveRepositoryInterface<Ex
         @Nullable String triggerExecutionId
     );
 
+    /**
+     * @param withTaskRuns whether the task runs are needed, when they are stored apart from the executions, only the
+     *                     headers of the executions are read without them
+     */
+    default Flowable<Execution> find(
+        @Nullable String query,
+        @Nullable String tenantId,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate,
+        @Nullable List<State.Type> state,
+        @Nullable Map<String, String> labels,
+        @Nullable String triggerExecutionId,
+        boolean withTaskRuns
+    ) {
+        return this.find(query, tenantId, namespace, flowId, startDate, endDate, state, labels, triggerExecutionId);
+    }
+
+    /**
+     * Find the executions ordered by id, starting after the given one, to walk through a large number of executions
+     * by chunks without an offset nor a long-running transaction.
+     */
+    List<Execution> findAfter(
+        @Nullable String query,
+        @Nullable String tenantId,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate,
+        @Nullable List<State.Type> state,
+        @Nullable Map<String, String> labels,
+        @Nullable String triggerExecutionId,
+        @Nullable String afterId,
+        int size
+    );
+
     ArrayListTotal<TaskRun> findTaskRun(
         Pageable pageable,
         @Nullable String query,
@@ -68,8 +105,28 @@ public interface ExecutionRepositoryInterface extends SaveRepositoryInterface<Ex
 
     Execution delete(Execution execution);
 
+    /**
+     * Delete several executions at once, implementations are free to do it in a single round-trip.
+     */
+    default List<Execution> deleteAll(List<Execution> executions) {
+        return executions
+            .stream()
+            .map(this::delete)
+            .toList();
+    }
+
     Integer purge(Execution execution);
 
+    /**
+     * Purge several executions at once, implementations are free to do it with a single statement.
+     */
+    default Integer purge(List<Execution> executions) {
+        return executions
+            .stream()
+            .mapToInt(this::purge)
+            .sum();
+    }
+
     Integer maxTaskRunSetting();
 
     List<DailyExecutionStatistics> dailyStatistics(
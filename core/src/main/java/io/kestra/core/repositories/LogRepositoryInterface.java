@@ -8,6 +8,7 @@ import org.slf4j.event.Level;
 import javax.annotation.Nullable;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface LogRepositoryInterface extends SaveRepositoryInterface<LogEntry> {
     List<LogEntry> findByExecutionId(String tenantId, String executionId, Level minLevel);
@@ -26,6 +27,35 @@ public interface LogRepositoryInterface extends SaveRepositoryInterface<LogEntry
 
     ArrayListTotal<LogEntry> findByExecutionIdAndTaskRunIdAndAttempt(String tenantId, String executionId, String taskRunId, Level minLevel, Integer attempt, Pageable pageable);
 
+    /**
+     * Send the logs of an execution ordered by timestamp to the consumer, without loading all of them in memory.
+     * The task id, task run id and attempt filters are optional.
+     */
+    default void streamByExecutionId(
+        String tenantId,
+        String executionId,
+        @Nullable String taskId,
+        @Nullable String taskRunId,
+        @Nullable Integer attempt,
+        @Nullable Level minLevel,
+        Consumer<LogEntry> consumer
+    ) {
+        List<LogEntry> logEntries;
+        if (taskId != null) {
+            logEntries = this.findByExecutionIdAndTaskId(tenantId, executionId, taskId, minLevel);
+        } else if (taskRunId != null) {
+            if (attempt != null) {
+                logEntries = this.findByExecutionIdAndTaskRunIdAndAttempt(tenantId, executionId, taskRunId, minLevel, attempt);
+            } else {
+                logEntries = this.findByExecutionIdAndTaskRunId(tenantId, executionId, taskRunId, minLevel);
+            }
+        } else {
+            logEntries = this.findByExecutionId(tenantId, executionId, minLevel);
+        }
+
+        logEntries.forEach(consumer);
+    }
+
     ArrayListTotal<LogEntry> find(
         Pageable pageable,
         @Nullable String query,
@@ -41,4 +71,14 @@ public interface LogRepositoryInterface extends SaveRepositoryInterface<LogEntry
     LogEntry save(LogEntry log);
 
     Integer purge(Execution execution);
+
+    /**
+     * Purge the logs of several executions at once, implementations are free to do it with a single statement.
+     */
+    default Integer purge(List<Execution> executions) {
+        return executions
+            .stream()
+            .mapToInt(this::purge)
+            .sum();
+    }
 }
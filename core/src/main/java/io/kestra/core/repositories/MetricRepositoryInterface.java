@@ -27,6 +27,16 @@ public interface MetricRepositoryInterface extends SaveRepositoryInterface<Metri
 
     Integer purge(Execution execution);
 
+    /**
+     * Purge the metrics of several executions at once, implementations are free to do it with a single statement.
+     */
+    default Integer purge(List<Execution> executions) {
+        return executions
+            .stream()
+            .mapToInt(this::purge)
+            .sum();
+    }
+
     default Function<String, String> sortMapping() throws IllegalArgumentException {
         return s -> s;
     }
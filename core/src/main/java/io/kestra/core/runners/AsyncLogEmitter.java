@@ -0,0 +1,188 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.utils.DurationOrSizeTrigger;
+import io.kestra.core.utils.ExecutorsUtils;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ship the task logs to the log queue from a background thread.
+ * Logs are buffered in a bounded buffer, and sent in batch when the batch size or the batch duration is reached.
+ * When the buffer is full, the {@link OverflowPolicy} decides whether the task thread waits or the log is dropped.
+ */
+@Singleton
+@Requires(property = "kestra.logs.async.enabled", value = StringUtils.TRUE, defaultValue = StringUtils.FALSE)
+@Slf4j
+public class AsyncLogEmitter {
+    @Inject
+    @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED)
+    private QueueInterface<LogEntry> logQueue;
+
+    private final MetricRegistry metricRegistry;
+
+    @Inject
+    private ExecutorsUtils executorsUtils;
+
+    private final Configuration configuration;
+
+    private final BlockingQueue<LogEntry> buffer;
+
+    private final AtomicInteger bufferSize;
+
+    private final AtomicLong overflowCount = new AtomicLong();
+
+    private final AtomicBoolean started = new AtomicBoolean(false);
+
+    private volatile boolean running = true;
+
+    private ExecutorService executorService;
+
+    @Inject
+    public AsyncLogEmitter(Configuration configuration, MetricRegistry metricRegistry) {
+        this.configuration = configuration;
+        this.metricRegistry = metricRegistry;
+        this.buffer = new ArrayBlockingQueue<>(configuration.getBufferSize());
+        this.bufferSize = metricRegistry.gauge(MetricRegistry.METRIC_WORKER_LOG_BUFFER_SIZE, new AtomicInteger(0));
+    }
+
+    public void emit(LogEntry logEntry) {
+        if (started.compareAndSet(false, true)) {
+            this.executorService = executorsUtils.singleThreadExecutor("async-log-emitter");
+            this.executorService.execute(this::run);
+        }
+
+        if (!running) {
+            logQueue.emitAsync(logEntry);
+            return;
+        }
+
+        if (buffer.offer(logEntry)) {
+            return;
+        }
+
+        boolean keep = switch (configuration.getOverflow()) {
+            case BLOCK -> true;
+            case DROP_DEBUG -> !isDebug(logEntry);
+            case SAMPLE -> !isDebug(logEntry) || overflowCount.incrementAndGet() % configuration.getSampleRate() == 0;
+        };
+
+        if (keep) {
+            try {
+                buffer.put(logEntry);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logQueue.emitAsync(logEntry);
+            }
+        } else {
+            metricRegistry
+                .counter(MetricRegistry.METRIC_WORKER_LOG_DROPPED_COUNT, "level", logEntry.getLevel().name())
+                .increment();
+        }
+    }
+
+    private static boolean isDebug(LogEntry logEntry) {
+        return logEntry.getLevel() == Level.DEBUG || logEntry.getLevel() == Level.TRACE;
+    }
+
+    private void run() {
+        DurationOrSizeTrigger<LogEntry> trigger = new DurationOrSizeTrigger<>(
+            configuration.getBatchDuration(),
+            configuration.getBatchSize()
+        );
+
+        List<LogEntry> batch = new ArrayList<>();
+
+        while (running || !buffer.isEmpty()) {
+            try {
+                LogEntry logEntry = buffer.poll(configuration.getBatchDuration().toMillis(), TimeUnit.MILLISECONDS);
+                if (logEntry != null) {
+                    batch.add(logEntry);
+                    buffer.drainTo(batch, Math.max(0, configuration.getBatchSize() - batch.size()));
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            }
+
+            bufferSize.set(buffer.size());
+
+            if (trigger.test(batch) || (!running && !batch.isEmpty())) {
+                this.flush(batch);
+                batch = new ArrayList<>();
+            }
+        }
+    }
+
+    private void flush(List<LogEntry> batch) {
+        try {
+            logQueue.emitAll(batch);
+        } catch (Exception e) {
+            log.error("Unable to send {} logs", batch.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        this.running = false;
+
+        if (this.executorService != null) {
+            this.executorService.shutdown();
+
+            try {
+                if (!this.executorService.awaitTermination(configuration.getCloseTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                    log.warn("Unable to flush {} logs before closing", buffer.size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public enum OverflowPolicy {
+        /**
+         * Wait for room in the buffer, slowing down the task that is logging.
+         */
+        BLOCK,
+        /**
+         * Drop DEBUG and TRACE logs, wait for the others.
+         */
+        DROP_DEBUG,
+        /**
+         * Keep only one DEBUG and TRACE log out of {@link Configuration#getSampleRate()}, wait for the others.
+         */
+        SAMPLE
+    }
+
+    @Getter
+    @ConfigurationProperties("kestra.logs.async")
+    public static class Configuration {
+        Integer bufferSize = 10000;
+        Integer batchSize = 500;
+        Duration batchDuration = Duration.ofMillis(100);
+        OverflowPolicy overflow = OverflowPolicy.BLOCK;
+        Integer sampleRate = 10;
+        Duration closeTimeout = Duration.ofSeconds(30);
+    }
+}
@@ -3,21 +3,21 @@ package io.kestra.core.runners;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.repositories.FlowRepositoryInterface;
 import io.kestra.core.services.FlowListenersInterface;
-import lombok.Setter;
 
 import java.util.Collection;
-import java.util.List;
+import java.util.Collections;
 import java.util.Optional;
 
 public class DefaultFlowExecutor implements FlowExecutorInterface {
     private final FlowRepositoryInterface flowRepositoryInterface;
-    @Setter
-    private List<Flow> allFlows;
+    private final FlowListenersInterface flowListeners;
+    private volatile Collection<Flow> allFlows;
 
     public DefaultFlowExecutor(FlowListenersInterface flowListeners, FlowRepositoryInterface flowRepositoryInterface) {
         this.flowRepositoryInterface = flowRepositoryInterface;
+        this.flowListeners = flowListeners;
         flowListeners.listen(flows -> {
-            this.allFlows = flows;
+            this.allFlows = Collections.unmodifiableCollection(flows);
         });
     }
 
@@ -28,14 +28,9 @@ public class DefaultFlowExecutor implements FlowExecutorInterface {
 
     @Override
     public Optional<Flow> findById(String tenantId, String namespace, String id, Optional<Integer> revision) {
-        Optional<Flow> find = this.allFlows
-            .stream()
-            .filter(flow -> ((flow.getTenantId() == null && tenantId == null) || flow.getTenantId().equals(tenantId)) &&
-                flow.getNamespace().equals(namespace) &&
-                flow.getId().equals(id) &&
-                (revision.isEmpty() || revision.get().equals(flow.getRevision()))
-            )
-            .findFirst();
+        Optional<Flow> find = this.flowListeners
+            .findById(tenantId, namespace, id)
+            .filter(flow -> revision.isEmpty() || revision.get().equals(flow.getRevision()));
 
         if (find.isPresent()) {
             return find;
@@ -120,7 +120,10 @@ public final class ExecutableUtils {
         Optional<State.Type> previousState = taskRun.getState().getHistories().size() > 1 ? Optional.of(taskRun.getState().getHistories().get(taskRun.getState().getHistories().size() - 2).getState()) : Optional.empty();
 
         // search for the previous iterations, if not found, we init it with an empty map
-        Map<String, Integer> iterations = previousTaskRun.getOutputs() != null ? (Map<String, Integer>) previousTaskRun.getOutputs().get("iterations") : new HashMap<>();
+        Map<String, Integer> iterations = new HashMap<>();
+        if (previousTaskRun.getOutputs() != null && previousTaskRun.getOutputs().get("iterations") != null) {
+            iterations.putAll((Map<String, Integer>) previousTaskRun.getOutputs().get("iterations"));
+        }
 
         int currentStateIteration = iterations.getOrDefault(currentState.toString(),  0);
         iterations.put(currentState.toString(), currentStateIteration + 1);
@@ -129,6 +132,14 @@ public final class ExecutableUtils {
             iterations.put(previousState.get().toString(), previousStateIterations - 1);
         }
 
+        // keep the other outputs of the task run, like the ones used to submit the subflow executions by window
+        Map<String, Object> outputs = new HashMap<>();
+        if (previousTaskRun.getOutputs() != null) {
+            outputs.putAll(previousTaskRun.getOutputs());
+        }
+        outputs.put("iterations", iterations);
+        outputs.put("numberOfBatches", numberOfBatches);
+
         // update the state to success if terminatedIterations == numberOfBatches
         int terminatedIterations =  iterations.getOrDefault(State.Type.SUCCESS.toString(), 0) +
             iterations.getOrDefault(State.Type.FAILED.toString(), 0) +
@@ -139,7 +150,7 @@ public final class ExecutableUtils {
             var state = transmitFailed ? findTerminalState(iterations, allowFailure) : State.Type.SUCCESS;
             return previousTaskRun
                 .withIteration(taskRun.getIteration())
-                .withOutputs(Map.of("iterations", iterations, "numberOfBatches", numberOfBatches))
+                .withOutputs(outputs)
                 .withAttempts(Collections.singletonList(TaskRunAttempt.builder().state(new State().withState(state)).build()))
                 .withState(state);
         }
@@ -147,7 +158,7 @@ public final class ExecutableUtils {
          // else we update the previous taskRun as it's the same taskRun that is still running
         return previousTaskRun
             .withIteration(taskRun.getIteration())
-            .withOutputs(Map.of("iterations", iterations, "numberOfBatches", numberOfBatches));
+            .withOutputs(outputs);
     }
 
     private static State.Type findTerminalState(Map<String, Integer> iterations, boolean allowFailure) {
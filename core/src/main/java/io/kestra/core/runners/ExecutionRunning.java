@@ -0,0 +1,33 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.models.executions.Execution;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+import javax.validation.constraints.NotNull;
+
+@Value
+@AllArgsConstructor
+@Builder
+public class ExecutionRunning {
+    String tenantId;
+
+    @NotNull
+    String namespace;
+
+    @NotNull
+    String flowId;
+
+    @NotNull
+    String executionId;
+
+    public static ExecutionRunning of(Execution execution) {
+        return ExecutionRunning.builder()
+            .tenantId(execution.getTenantId())
+            .namespace(execution.getNamespace())
+            .flowId(execution.getFlowId())
+            .executionId(execution.getId())
+            .build();
+    }
+}
@@ -45,6 +45,9 @@ public class ExecutorService {
     @Inject
     protected ConditionService conditionService;
 
+    @Inject
+    protected VariablesProjection variablesProjection;
+
     protected FlowExecutorInterface flowExecutorInterface;
 
     protected FlowExecutorInterface flowExecutorInterface() {
@@ -124,6 +127,9 @@ public class ExecutorService {
             // search for execution updating tasks
             executor = this.handleExecutionUpdatingTask(executor);
 
+            // search for running flow task that submit their subflow executions progressively
+            executor = this.handleNextExecutableTask(executor);
+
             // search for flow task
             executor = this.handleExecutableTask(executor);
         } catch (Exception e) {
@@ -564,7 +570,10 @@ public class ExecutorService {
             .filter(taskRun -> taskRun.getState().getCurrent().isCreated())
             .map(throwFunction(taskRun -> {
                 Task task = executor.getFlow().findTaskByTaskId(taskRun.getTaskId());
-                RunContext runContext = runContextFactory.of(executor.getFlow(), task, executor.getExecution(), taskRun);
+                RunContext runContext = variablesProjection.project(
+                    runContextFactory.of(executor.getFlow(), task, executor.getExecution(), taskRun),
+                    task
+                );
                 return WorkerTask.builder()
                     .runContext(runContext)
                     .taskRun(taskRun)
@@ -620,6 +629,18 @@ public class ExecutorService {
                     }
                     else {
                         executions.addAll(subflowExecutions);
+
+                        // keep the outputs used to create the next subflow executions
+                        TaskRun parentTaskRun = subflowExecutions.get(0).getParentTaskRun();
+                        if (executableTask.waitForExecution() && parentTaskRun.getOutputs() != null) {
+                            executor.withExecution(
+                                executor
+                                    .getExecution()
+                                    .withTaskRun(executableTaskRun.withState(State.Type.RUNNING).withOutputs(parentTaskRun.getOutputs())),
+                                "handleExecutableTaskRunning.outputs"
+                            );
+                        }
+
                         if (!executableTask.waitForExecution()) {
                             // send immediately all workerTaskResult to ends the executable task
                             for (SubflowExecution<?> subflowExecution : subflowExecutions) {
@@ -662,6 +683,44 @@ public class ExecutorService {
         return resultExecutor;
     }
 
+    private Executor handleNextExecutableTask(Executor executor) throws InternalException {
+        if (executor.getExecution().getTaskRunList() == null || executor.getExecution().getState().getCurrent() != State.Type.RUNNING) {
+            return executor;
+        }
+
+        Execution execution = executor.getExecution();
+        List<SubflowExecution<?>> executions = new ArrayList<>();
+
+        for (TaskRun taskRun : executor.getExecution().getTaskRunList()) {
+            // the progress of the subflow executions is kept on the outputs of the running task run
+            if (taskRun.getState().getCurrent() != State.Type.RUNNING || taskRun.getOutputs() == null) {
+                continue;
+            }
+
+            Task task = executor.getFlow().findTaskByTaskId(taskRun.getTaskId());
+            if (!(task instanceof ExecutableTask<?> executable) || !executable.hasNextSubflowExecutions(taskRun)) {
+                continue;
+            }
+
+            var executableTask = (Task & ExecutableTask<?>) task;
+            RunContext runContext = runContextFactory.of(executor.getFlow(), executableTask, execution, taskRun);
+            List<SubflowExecution<?>> subflowExecutions = executableTask.createNextSubflowExecutions(runContext, flowExecutorInterface(), executor.getFlow(), execution, taskRun);
+
+            if (!subflowExecutions.isEmpty()) {
+                execution = execution.withTaskRun(taskRun.withOutputs(subflowExecutions.get(0).getParentTaskRun().getOutputs()));
+                executions.addAll(subflowExecutions);
+            }
+        }
+
+        if (executions.isEmpty()) {
+            return executor;
+        }
+
+        return executor
+            .withExecution(execution, "handleNextExecutableTask")
+            .withSubflowExecutions(executions, "handleNextExecutableTask");
+    }
+
     private Executor handleExecutionUpdatingTask(final Executor executor) {
         List<WorkerTaskResult> workerTaskResults = new ArrayList<>();
 
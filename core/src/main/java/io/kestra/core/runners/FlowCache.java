@@ -0,0 +1,112 @@
+package io.kestra.core.runners;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.services.FlowListenersInterface;
+import io.kestra.core.tasks.flows.Template;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
+import io.micronaut.runtime.event.annotation.EventListener;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Cache of the flows used by the executor, with task defaults already injected.
+ * A flow revision is immutable, so entries are only invalidated when the flow is updated or deleted (to handle
+ * a flow saved again with the same revision) and when the configuration is refreshed (global task defaults).
+ */
+@Singleton
+@Slf4j
+public class FlowCache {
+    private final Cache<Key, Entry> cache;
+
+    private final MetricRegistry metricRegistry;
+
+    @Inject
+    public FlowCache(
+        MetricRegistry metricRegistry,
+        FlowListenersInterface flowListeners,
+        @Value("${kestra.executor.flow-cache.maximum-size:10000}") long maximumSize
+    ) {
+        this.metricRegistry = metricRegistry;
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .build();
+
+        flowListeners.listen((flow, previous) -> this.invalidate(flow));
+    }
+
+    /**
+     * Return the flow of the execution, loading it once with the loader and resolving it with the resolver if it's not
+     * on the cache.
+     * Flows using templates, and flows the resolver failed on, are cached as loaded and given to the fallback on each
+     * call: templates can be updated without a new flow revision and the fallback is responsible for reporting errors.
+     * If the loader fails, nothing is cached and the exception is thrown.
+     */
+    public Flow get(Execution execution, Supplier<Flow> loader, UnaryOperator<Flow> resolver, UnaryOperator<Flow> fallback) {
+        Key key = Key.of(execution);
+
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null) {
+            metricRegistry.counter(MetricRegistry.EXECUTOR_FLOW_CACHE_HIT_COUNT).increment();
+        } else {
+            metricRegistry.counter(MetricRegistry.EXECUTOR_FLOW_CACHE_MISS_COUNT).increment();
+            try {
+                entry = cache.get(key, () -> Entry.of(loader.get(), resolver));
+            } catch (ExecutionException | UncheckedExecutionException e) {
+                Throwables.throwIfUnchecked(e.getCause());
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        return entry.resolved() ? entry.flow() : fallback.apply(entry.flow());
+    }
+
+    public void invalidate(Flow flow) {
+        cache.asMap().keySet().removeIf(key -> Objects.equals(key.tenantId(), flow.getTenantId()) &&
+            key.namespace().equals(flow.getNamespace()) &&
+            key.flowId().equals(flow.getId())
+        );
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @EventListener
+    void onRefresh(final RefreshEvent event) {
+        log.debug("Configuration refreshed, invalidating the flow cache");
+        this.invalidateAll();
+    }
+
+    private record Entry(Flow flow, boolean resolved) {
+        static Entry of(Flow flow, UnaryOperator<Flow> resolver) {
+            if (flow.allTasksWithChilds().stream().anyMatch(task -> task instanceof Template)) {
+                return new Entry(flow, false);
+            }
+
+            try {
+                return new Entry(resolver.apply(flow), true);
+            } catch (Exception e) {
+                return new Entry(flow, false);
+            }
+        }
+    }
+
+    private record Key(String tenantId, String namespace, String flowId, Integer revision) {
+        static Key of(Execution execution) {
+            return new Key(execution.getTenantId(), execution.getNamespace(), execution.getFlowId(), execution.getFlowRevision());
+        }
+    }
+}
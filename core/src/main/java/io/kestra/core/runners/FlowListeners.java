@@ -12,9 +12,7 @@ import io.kestra.core.repositories.FlowRepositoryInterface;
 import io.kestra.core.services.FlowListenersInterface;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -29,7 +27,13 @@ public class FlowListeners implements FlowListenersInterface {
 
     private Boolean isStarted = false;
     private final QueueInterface<Flow> flowQueue;
-    private final List<Flow> flows;
+
+    // flows by uid without revision, insertion ordered to keep the last updated flow at the end
+    private final Map<String, Flow> flows = new LinkedHashMap<>();
+
+    // copy-on-write snapshot shared by all consumers, rebuilt only after a change
+    private volatile List<Flow> snapshot;
+
     private final List<Consumer<List<Flow>>> consumers = new ArrayList<>();
 
     private final List<BiConsumer<Flow, Flow>> consumersEach = new ArrayList<>();
@@ -40,7 +44,7 @@ public class FlowListeners implements FlowListenersInterface {
         @Named(QueueFactoryInterface.FLOW_NAMED) QueueInterface<Flow> flowQueue
     ) {
         this.flowQueue = flowQueue;
-        this.flows = flowRepository.findAllForAllTenants();
+        flowRepository.findAllForAllTenants().forEach(this::index);
     }
 
     @Override
@@ -96,20 +100,23 @@ public class FlowListeners implements FlowListenersInterface {
     }
 
     private Optional<Flow> previous(Flow flow) {
-        return flows
-            .stream()
-            .filter(r -> r.getNamespace().equals(flow.getNamespace()) && r.getId().equals(flow.getId()))
-            .findFirst();
+        synchronized (this) {
+            return Optional.ofNullable(flows.get(flow.uidWithoutRevision()));
+        }
     }
 
     private boolean remove(Flow flow) {
         synchronized (this) {
-            boolean remove = flows.removeIf(r -> r.getNamespace().equals(flow.getNamespace()) && r.getId().equals(flow.getId()));
-            if (!remove && flow.isDeleted()) {
+            Flow removed = flows.remove(flow.uidWithoutRevision());
+            if (removed == null && flow.isDeleted()) {
                 log.warn("Can't remove flow {}.{}", flow.getNamespace(), flow.getId());
             }
 
-            return remove;
+            if (removed != null) {
+                this.snapshot = null;
+            }
+
+            return removed != null;
         }
     }
 
@@ -117,14 +124,39 @@ public class FlowListeners implements FlowListenersInterface {
         synchronized (this) {
             this.remove(flow);
 
-            this.flows.add(flow);
+            this.index(flow);
+        }
+    }
+
+    private void index(Flow flow) {
+        synchronized (this) {
+            flows.put(flow.uidWithoutRevision(), flow);
+
+            this.snapshot = null;
         }
     }
 
+    private List<Flow> snapshot() {
+        List<Flow> current = this.snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = this.snapshot;
+                if (current == null) {
+                    current = Collections.unmodifiableList(new ArrayList<>(this.flows.values()));
+                    this.snapshot = current;
+                }
+            }
+        }
+
+        return current;
+    }
+
     private void notifyConsumers() {
         synchronized (this) {
+            List<Flow> current = this.snapshot();
+
             this.consumers
-                .forEach(consumer -> consumer.accept(new ArrayList<>(this.flows)));
+                .forEach(consumer -> consumer.accept(current));
         }
     }
 
@@ -139,7 +171,7 @@ public class FlowListeners implements FlowListenersInterface {
     public void listen(Consumer<List<Flow>> consumer) {
         synchronized (this) {
             consumers.add(consumer);
-            consumer.accept(new ArrayList<>(this.flows()));
+            consumer.accept(this.snapshot());
         }
     }
 
@@ -154,6 +186,13 @@ public class FlowListeners implements FlowListenersInterface {
     @Override
     public List<Flow> flows() {
         // we forced a deep clone to avoid concurrency where instance are changed during iteration (especially scheduler).
-        return new ArrayList<>(this.flows);
+        return new ArrayList<>(this.snapshot());
+    }
+
+    @Override
+    public Optional<Flow> findById(String tenantId, String namespace, String id) {
+        synchronized (this) {
+            return Optional.ofNullable(flows.get(Flow.uidWithoutRevision(tenantId, namespace, id)));
+        }
     }
 }
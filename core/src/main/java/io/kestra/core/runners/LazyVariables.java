@@ -0,0 +1,88 @@
+package io.kestra.core.runners;
+
+import com.google.common.base.Suppliers;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Immutable variables map where some values are only computed on first access.
+ * Keys are always known, so looking for a key never computes a value, but iterating on the entries does
+ * (copy, serialization, ...).
+ */
+public final class LazyVariables extends AbstractMap<String, Object> {
+    private final Map<String, Object> values;
+
+    private LazyVariables(Map<String, Object> values) {
+        this.values = values;
+    }
+
+    /**
+     * @param values the variables, values created with {@link #lazy(Supplier)} are computed on first access.
+     */
+    public static LazyVariables of(Map<String, Object> values) {
+        return new LazyVariables(Collections.unmodifiableMap(values));
+    }
+
+    /**
+     * A value computed once, on first access.
+     */
+    public static Object lazy(Supplier<?> supplier) {
+        return new Lazy(Suppliers.memoize(supplier::get));
+    }
+
+    @Override
+    public Object get(Object key) {
+        return resolve(values.get(key));
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return values.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return values.keySet();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                Iterator<Entry<String, Object>> iterator = values.entrySet().iterator();
+
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        Entry<String, Object> entry = iterator.next();
+                        return new SimpleImmutableEntry<>(entry.getKey(), resolve(entry.getValue()));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return values.size();
+            }
+        };
+    }
+
+    private static Object resolve(Object value) {
+        return value instanceof Lazy lazy ? lazy.supplier.get() : value;
+    }
+
+    private record Lazy(Supplier<?> supplier) {
+    }
+}
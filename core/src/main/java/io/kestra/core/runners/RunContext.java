@@ -46,6 +46,7 @@ public class RunContext {
     private MetricRegistry meterRegistry;
     private Path tempBasedPath;
     private RunContextCache runContextCache;
+    private AsyncLogEmitter asyncLogEmitter;
 
     private URI storageOutputPrefix;
     private URI storageExecutionPrefix;
@@ -122,6 +123,7 @@ public class RunContext {
         this.storageInterface = applicationContext.findBean(StorageInterface.class).orElse(null);
         this.meterRegistry = applicationContext.findBean(MetricRegistry.class).orElseThrow();
         this.runContextCache = applicationContext.findBean(RunContextCache.class).orElseThrow();
+        this.asyncLogEmitter = applicationContext.findBean(AsyncLogEmitter.class).orElse(null);
         this.tempBasedPath = Path.of(applicationContext
             .getProperty("kestra.tasks.tmp-dir.path", String.class)
             .orElse(System.getProperty("java.io.tmpdir"))
@@ -142,6 +144,7 @@ public class RunContext {
                 QueueInterface.class,
                 Qualifiers.byName(QueueFactoryInterface.WORKERTASKLOG_NAMED)
             ).orElseThrow(),
+            this.asyncLogEmitter,
             LogEntry.of(taskRun),
             task.getLogLevel()
         );
@@ -154,6 +157,7 @@ public class RunContext {
                 QueueInterface.class,
                 Qualifiers.byName(QueueFactoryInterface.WORKERTASKLOG_NAMED)
             ).orElseThrow(),
+            this.asyncLogEmitter,
             LogEntry.of(execution),
             null
         );
@@ -166,6 +170,7 @@ public class RunContext {
                 QueueInterface.class,
                 Qualifiers.byName(QueueFactoryInterface.WORKERTASKLOG_NAMED)
             ).orElseThrow(),
+            this.asyncLogEmitter,
             LogEntry.of(triggerContext, trigger),
             trigger.getMinLogLevel()
         );
@@ -178,6 +183,7 @@ public class RunContext {
                 QueueInterface.class,
                 Qualifiers.byName(QueueFactoryInterface.WORKERTASKLOG_NAMED)
             ).orElseThrow(),
+            this.asyncLogEmitter,
             LogEntry.of(flow, trigger),
             trigger.getMinLogLevel()
         );
@@ -267,7 +273,7 @@ public class RunContext {
                 .put("execution", executionMap.build());
 
             if (execution.getTaskRunList() != null) {
-                builder.put("outputs", execution.outputs());
+                builder.put("outputs", LazyVariables.lazy(execution::outputs));
             }
 
             if (execution.getInputs() != null) {
@@ -291,7 +297,7 @@ public class RunContext {
                 ));
         }
 
-        return builder.build();
+        return LazyVariables.of(builder.build());
     }
 
     private Map<String, Object> variables(TaskRun taskRun) {
@@ -358,6 +364,10 @@ public class RunContext {
         return this.clone(variables);
     }
 
+    RunContext withVariables(Map<String, Object> variables) {
+        return this.clone(variables);
+    }
+
     private RunContext clone(Map<String, Object> variables) {
         RunContext runContext = new RunContext();
         runContext.variableRenderer = this.variableRenderer;
@@ -489,6 +499,14 @@ public class RunContext {
     }
 
     public InputStream uriToInputStream(URI uri) throws IOException {
+        return this.uriToInputStream(uri, 0);
+    }
+
+    /**
+     * Read an internal storage file from the given byte offset, without reading the bytes before it if the storage
+     * supports it.
+     */
+    public InputStream uriToInputStream(URI uri, long offset) throws IOException {
         if (uri == null) {
             throw new IllegalArgumentException("Invalid internal storage uri, got null");
         }
@@ -498,7 +516,7 @@ public class RunContext {
         }
 
         if (uri.getScheme().equals("kestra")) {
-            return this.storageInterface.get(getTenantId(), uri);
+            return offset == 0 ? this.storageInterface.get(getTenantId(), uri) : this.storageInterface.get(getTenantId(), uri, offset);
         }
 
         throw new IllegalArgumentException("Invalid internal storage scheme, got uri '" + uri + "'");
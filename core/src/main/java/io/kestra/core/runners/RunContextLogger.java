@@ -25,6 +25,7 @@ public class RunContextLogger {
     private final String loggerName;
     private Logger logger;
     private QueueInterface<LogEntry> logQueue;
+    private AsyncLogEmitter asyncLogEmitter;
     private LogEntry logEntry;
     private Level loglevel;
 
@@ -44,6 +45,11 @@ public class RunContextLogger {
         this.loglevel = loglevel == null ? Level.TRACE : Level.toLevel(loglevel.toString());
     }
 
+    public RunContextLogger(QueueInterface<LogEntry> logQueue, AsyncLogEmitter asyncLogEmitter, LogEntry logEntry, org.slf4j.event.Level loglevel) {
+        this(logQueue, logEntry, loglevel);
+        this.asyncLogEmitter = asyncLogEmitter;
+    }
+
     private static List<LogEntry> logEntry(ILoggingEvent event, String message, org.slf4j.event.Level level, LogEntry logEntry) {
         Iterable<String> split;
 
@@ -128,7 +134,7 @@ public class RunContextLogger {
 
             // unit test don't need the logqueue
             if (this.logQueue != null && this.logEntry != null) {
-                ContextAppender contextAppender = new ContextAppender(this.logQueue, this.logEntry);
+                ContextAppender contextAppender = new ContextAppender(this.logQueue, this.asyncLogEmitter, this.logEntry);
                 contextAppender.setContext(loggerContext);
                 contextAppender.start();
 
@@ -149,17 +155,28 @@ public class RunContextLogger {
 
     public static class ContextAppender extends AppenderBase<ILoggingEvent> {
         private final QueueInterface<LogEntry> logQueue;
+        private final AsyncLogEmitter asyncLogEmitter;
         private final LogEntry logEntry;
 
         public ContextAppender(QueueInterface<LogEntry> logQueue, LogEntry logEntry) {
+            this(logQueue, null, logEntry);
+        }
+
+        public ContextAppender(QueueInterface<LogEntry> logQueue, AsyncLogEmitter asyncLogEmitter, LogEntry logEntry) {
             this.logQueue = logQueue;
+            this.asyncLogEmitter = asyncLogEmitter;
             this.logEntry = logEntry;
         }
 
         @Override
         protected void append(ILoggingEvent e) {
-            logEntries(e, logEntry)
-                .forEach(logQueue::emitAsync);
+            if (asyncLogEmitter != null) {
+                logEntries(e, logEntry)
+                    .forEach(asyncLogEmitter::emit);
+            } else {
+                logEntries(e, logEntry)
+                    .forEach(logQueue::emitAsync);
+            }
         }
     }
 
@@ -5,6 +5,10 @@ import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.HandlebarsException;
 import com.github.jknack.handlebars.Template;
 import com.github.jknack.handlebars.helper.*;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.kestra.core.metrics.MetricRegistry;
+import io.micrometer.core.instrument.Counter;
 import io.pebbletemplates.pebble.PebbleEngine;
 import io.pebbletemplates.pebble.error.AttributeNotFoundException;
 import io.pebbletemplates.pebble.error.PebbleException;
@@ -13,6 +17,7 @@ import io.pebbletemplates.pebble.template.PebbleTemplate;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.runners.handlebars.VariableRendererPlugins;
 import io.kestra.core.runners.handlebars.helpers.*;
+import io.kestra.core.runners.pebble.CompiledTemplate;
 import io.kestra.core.runners.pebble.ExtensionCustomizer;
 import io.kestra.core.runners.pebble.JsonWriter;
 import io.kestra.core.runners.pebble.PebbleLruCache;
@@ -39,6 +44,10 @@ public class VariableRenderer {
     private final PebbleEngine pebbleEngine;
     private final VariableConfiguration variableConfiguration;
 
+    private Cache<String, CompiledTemplate> compiledTemplates;
+    private Counter compiledTemplatesHit;
+    private Counter compiledTemplatesMiss;
+
     @SuppressWarnings("unchecked")
     @Inject
     public VariableRenderer(ApplicationContext applicationContext, @Nullable VariableConfiguration variableConfiguration) {
@@ -74,10 +83,13 @@ public class VariableRenderer {
                 });
         }
 
+        // compiled templates are cached by the renderer itself, with the Pebble template inside
+        boolean pebbleCache = this.variableConfiguration.getCacheEnabled() && !this.isCompiled();
+
         PebbleEngine.Builder pebbleBuilder = new PebbleEngine.Builder()
             .registerExtensionCustomizer(ExtensionCustomizer::new)
             .strictVariables(true)
-            .cacheActive(this.variableConfiguration.getCacheEnabled())
+            .cacheActive(pebbleCache)
 
             .newLineTrimming(false)
             .autoEscaping(false);
@@ -85,11 +97,28 @@ public class VariableRenderer {
         applicationContext.getBeansOfType(AbstractExtension.class)
             .forEach(pebbleBuilder::extension);
 
-        if (this.variableConfiguration.getCacheEnabled()) {
+        if (pebbleCache) {
             pebbleBuilder.templateCache(new PebbleLruCache(this.variableConfiguration.getCacheSize()));
         }
 
         pebbleEngine = pebbleBuilder.build();
+
+        if (this.isCompiled()) {
+            MetricRegistry metricRegistry = applicationContext.getBean(MetricRegistry.class);
+
+            // weighted by the template length, the size of the parsed template is roughly proportional
+            this.compiledTemplates = CacheBuilder.newBuilder()
+                .maximumWeight(this.variableConfiguration.getCompiledCacheMaximumWeight())
+                .weigher((String key, CompiledTemplate value) -> key.length())
+                .build();
+            this.compiledTemplatesHit = metricRegistry.counter(MetricRegistry.VARIABLE_RENDERER_CACHE_HIT_COUNT);
+            this.compiledTemplatesMiss = metricRegistry.counter(MetricRegistry.VARIABLE_RENDERER_CACHE_MISS_COUNT);
+        }
+    }
+
+    private boolean isCompiled() {
+        // the Handlebars fallback needs the original template on Pebble failure
+        return this.variableConfiguration.getCompiledTemplates() && this.variableConfiguration.getDisableHandlebars();
     }
 
     public String recursiveRender(String inline, Map<String, Object> variables) throws IllegalVariableEvaluationException {
@@ -102,6 +131,10 @@ public class VariableRenderer {
             return inline;
         }
 
+        if (this.compiledTemplates != null) {
+            return this.compiledRender(inline, variables);
+        }
+
         // pre-process raw tags
         Matcher rawMatcher = RAW_PATTERN.matcher(inline);
         Map<String, String> replacers = new HashMap<>((int) Math.ceil(rawMatcher.groupCount() / 0.75));
@@ -153,6 +186,46 @@ public class VariableRenderer {
         return current;
     }
 
+    private String compiledRender(String inline, Map<String, Object> variables) throws IllegalVariableEvaluationException {
+        try {
+            CompiledTemplate compiledTemplate = this.compiled(inline);
+            String current = compiledTemplate.evaluate(variables);
+
+            // only render again while the output still contains an expression
+            while (CompiledTemplate.hasDelimiters(current)) {
+                CompiledTemplate next = this.compiled(current);
+                String rendered = next.restoreRaw(next.evaluate(variables));
+
+                if (rendered.equals(current)) {
+                    break;
+                }
+
+                current = rendered;
+            }
+
+            return compiledTemplate.restoreRaw(current);
+        } catch (PebbleException e) {
+            throw properPebbleException(e);
+        } catch (IOException e) {
+            throw new IllegalVariableEvaluationException(e);
+        }
+    }
+
+    private CompiledTemplate compiled(String template) throws PebbleException {
+        CompiledTemplate compiledTemplate = this.compiledTemplates.getIfPresent(template);
+        if (compiledTemplate != null) {
+            this.compiledTemplatesHit.increment();
+            return compiledTemplate;
+        }
+
+        // invalid templates are not cached, so the parsing exception is thrown on each render
+        this.compiledTemplatesMiss.increment();
+        compiledTemplate = CompiledTemplate.compile(this.pebbleEngine, template);
+        this.compiledTemplates.put(template, compiledTemplate);
+
+        return compiledTemplate;
+    }
+
     public IllegalVariableEvaluationException properPebbleException(PebbleException e) {
         if (e instanceof AttributeNotFoundException current) {
             return new IllegalVariableEvaluationException(
@@ -236,10 +309,23 @@ public class VariableRenderer {
             this.disableHandlebars = true;
             this.cacheEnabled = true;
             this.cacheSize = 1000;
+            this.compiledTemplates = false;
+            this.compiledCacheMaximumWeight = 50_000_000L;
         }
 
         Boolean disableHandlebars;
         Boolean cacheEnabled;
         Integer cacheSize;
+
+        /**
+         * Parse each template once into a constant, a single variable lookup or a Pebble template, cached by the
+         * renderer and stop the recursive rendering as soon as the output has no more expression.
+         */
+        Boolean compiledTemplates;
+
+        /**
+         * The maximum total length of the templates on the compiled templates cache.
+         */
+        Long compiledCacheMaximumWeight;
     }
 }
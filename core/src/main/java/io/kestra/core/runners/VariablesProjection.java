@@ -0,0 +1,268 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.models.tasks.ExecutableTask;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.serializers.JacksonMapper;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reduce the variables sent with a {@link WorkerTask} to the ones referenced by the task, so the executor doesn't send
+ * the outputs of the whole execution to the worker for each task.
+ * The expressions of all the task properties are analysed, and a variable is sent entirely as soon as one of its
+ * references can't be resolved statically (dynamic attribute, whole map usage, unknown syntax).
+ * Expressions found on the variables that are sent are also analysed, as they can be rendered recursively.
+ * <p>
+ * This is disabled by default, as plugins can also read the variables with {@link RunContext#getVariables()}.
+ */
+@Singleton
+@Slf4j
+public class VariablesProjection {
+    private static final Pattern EXPRESSION = Pattern.compile("\\{\\{(.*?)}}|\\{%(.*?)%}", Pattern.DOTALL);
+
+    /**
+     * Variables that can be large and are only sent when referenced, the other ones are always sent.
+     */
+    private static final Set<String> PROJECTABLES = Set.of("outputs", "inputs", "vars", "envs", "globals", "trigger");
+
+    private final boolean enabled;
+
+    @Inject
+    public VariablesProjection(@Value("${kestra.executor.lean-worker-task.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return a {@link RunContext} with only the variables referenced by the task, or the same {@link RunContext}
+     * if disabled or if the references can't be found.
+     */
+    public RunContext project(RunContext runContext, Task task) {
+        if (!enabled || task instanceof ExecutableTask<?>) {
+            return runContext;
+        }
+
+        return this.project(runContext.getVariables(), JacksonMapper.toMap(task))
+            .map(runContext::withVariables)
+            .orElse(runContext);
+    }
+
+    Optional<Map<String, Object>> project(Map<String, Object> variables, Object source) {
+        References references = new References();
+        if (!references.analyse(source)) {
+            log.debug("Unable to find the variables referenced, sending all the variables");
+            return Optional.empty();
+        }
+
+        while (true) {
+            Map<String, Object> projected = references.apply(variables);
+
+            References nested = references.copy();
+            if (!nested.analyse(projected)) {
+                return Optional.empty();
+            }
+
+            if (nested.equals(references)) {
+                return Optional.of(projected);
+            }
+
+            references = nested;
+        }
+    }
+
+    private static class References {
+        /**
+         * Variables referenced entirely.
+         */
+        private final Set<String> roots = new HashSet<>();
+
+        /**
+         * Variables where only some attributes are referenced.
+         */
+        private final Map<String, Set<String>> attributes = new HashMap<>();
+
+        private References copy() {
+            References copy = new References();
+            copy.roots.addAll(this.roots);
+            this.attributes.forEach((key, value) -> copy.attributes.put(key, new HashSet<>(value)));
+            return copy;
+        }
+
+        private Map<String, Object> apply(Map<String, Object> variables) {
+            Map<String, Object> result = new HashMap<>();
+
+            // only look at the values that are kept, as some can be lazy
+            for (String key : variables.keySet()) {
+                if (!PROJECTABLES.contains(key) || roots.contains(key)) {
+                    result.put(key, variables.get(key));
+                } else if (attributes.containsKey(key)) {
+                    Object value = variables.get(key);
+
+                    if (value instanceof Map<?, ?> map) {
+                        Map<Object, Object> filtered = new HashMap<>();
+
+                        attributes.get(key)
+                            .stream()
+                            .filter(map::containsKey)
+                            .forEach(attribute -> filtered.put(attribute, map.get(attribute)));
+
+                        result.put(key, filtered);
+                    } else {
+                        result.put(key, value);
+                    }
+                }
+            }
+
+            return Collections.unmodifiableMap(result);
+        }
+
+        /**
+         * @return false if an expression can't be analysed
+         */
+        private boolean analyse(Object source) {
+            if (source instanceof Map<?, ?> map) {
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    if (!analyse(entry.getKey()) || !analyse(entry.getValue())) {
+                        return false;
+                    }
+                }
+            } else if (source instanceof Collection<?> collection) {
+                for (Object item : collection) {
+                    if (!analyse(item)) {
+                        return false;
+                    }
+                }
+            } else if (source instanceof String string && (string.contains("{{") || string.contains("{%"))) {
+                Matcher matcher = EXPRESSION.matcher(string);
+
+                while (matcher.find()) {
+                    String expression = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+                    if (!analyseExpression(expression)) {
+                        return false;
+                    }
+                }
+            }
+
+            return true;
+        }
+
+        private boolean analyseExpression(String expression) {
+            List<Token> tokens = tokenize(expression);
+            if (tokens == null) {
+                return false;
+            }
+
+            for (int i = 0; i < tokens.size(); i++) {
+                Token token = tokens.get(i);
+
+                if (token.type() != TokenType.IDENTIFIER || (i > 0 && tokens.get(i - 1).type() == TokenType.DOT)) {
+                    continue;
+                }
+
+                // the whole context is used
+                if (token.value().equals("_context")) {
+                    return false;
+                }
+
+                String attribute = null;
+                if (i + 2 < tokens.size() && tokens.get(i + 1).type() == TokenType.DOT && tokens.get(i + 2).type() == TokenType.IDENTIFIER) {
+                    attribute = tokens.get(i + 2).value();
+                } else if (i + 3 < tokens.size() &&
+                    tokens.get(i + 1).type() == TokenType.OPEN_BRACKET &&
+                    tokens.get(i + 2).type() == TokenType.STRING &&
+                    tokens.get(i + 3).type() == TokenType.CLOSE_BRACKET
+                ) {
+                    attribute = tokens.get(i + 2).value();
+                }
+
+                if (attribute == null) {
+                    roots.add(token.value());
+                } else {
+                    attributes.computeIfAbsent(token.value(), s -> new HashSet<>()).add(attribute);
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * @return the tokens of the expression, or null if it can't be tokenized
+         */
+        private static List<Token> tokenize(String expression) {
+            List<Token> tokens = new ArrayList<>();
+            int i = 0;
+
+            while (i < expression.length()) {
+                char c = expression.charAt(i);
+
+                if (Character.isWhitespace(c)) {
+                    i++;
+                } else if (Character.isLetter(c) || c == '_') {
+                    int start = i;
+                    while (i < expression.length() && (Character.isLetterOrDigit(expression.charAt(i)) || expression.charAt(i) == '_')) {
+                        i++;
+                    }
+                    tokens.add(new Token(TokenType.IDENTIFIER, expression.substring(start, i)));
+                } else if (c == '\'' || c == '"') {
+                    StringBuilder value = new StringBuilder();
+                    i++;
+                    while (i < expression.length() && expression.charAt(i) != c) {
+                        if (expression.charAt(i) == '\\' && i + 1 < expression.length()) {
+                            i++;
+                        }
+                        value.append(expression.charAt(i));
+                        i++;
+                    }
+
+                    // unterminated string or string interpolation
+                    if (i >= expression.length() || (c == '"' && value.indexOf("#{") != -1)) {
+                        return null;
+                    }
+
+                    i++;
+                    tokens.add(new Token(TokenType.STRING, value.toString()));
+                } else {
+                    TokenType type = switch (c) {
+                        case '.' -> TokenType.DOT;
+                        case '[' -> TokenType.OPEN_BRACKET;
+                        case ']' -> TokenType.CLOSE_BRACKET;
+                        default -> TokenType.OTHER;
+                    };
+                    tokens.add(new Token(type, String.valueOf(c)));
+                    i++;
+                }
+            }
+
+            return tokens;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof References references &&
+                roots.equals(references.roots) &&
+                attributes.equals(references.attributes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(roots, attributes);
+        }
+    }
+
+    private enum TokenType {
+        IDENTIFIER,
+        STRING,
+        DOT,
+        OPEN_BRACKET,
+        CLOSE_BRACKET,
+        OTHER
+    }
+
+    private record Token(TokenType type, String value) {
+    }
+}
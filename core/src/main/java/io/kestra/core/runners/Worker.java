@@ -46,6 +46,8 @@ import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -70,6 +72,10 @@ public class Worker implements Runnable, AutoCloseable {
     // package private to allow its usage within tests
     final ExecutorService executors;
 
+    // only set when running on virtual threads, the semaphore replaces the thread pool size to limit the concurrency
+    private final ThreadFactory workerThreadFactory;
+    private final Semaphore concurrencySemaphore;
+
     @Getter
     private final Map<Long, AtomicInteger> metricRunningCount = new ConcurrentHashMap<>();
 
@@ -103,7 +109,21 @@ public class Worker implements Runnable, AutoCloseable {
         this.metricRegistry = applicationContext.getBean(MetricRegistry.class);
 
         ExecutorsUtils executorsUtils = applicationContext.getBean(ExecutorsUtils.class);
-        this.executors = executorsUtils.maxCachedThreadPool(thread, "worker");
+        boolean virtualThreads = applicationContext.getProperty("kestra.worker.virtual-threads", Boolean.class).orElse(false);
+
+        if (virtualThreads && ExecutorsUtils.isVirtualThreadSupported()) {
+            this.executors = executorsUtils.virtualThreadPerTaskExecutor("worker");
+            this.workerThreadFactory = executorsUtils.virtualThreadFactory("WorkerThread");
+            this.concurrencySemaphore = new Semaphore(thread);
+        } else {
+            if (virtualThreads) {
+                log.warn("Virtual threads are not supported by this JVM, Java 21 or later is required, using platform threads");
+            }
+
+            this.executors = executorsUtils.maxCachedThreadPool(thread, "worker");
+            this.workerThreadFactory = null;
+            this.concurrencySemaphore = null;
+        }
 
         WorkerGroupService workerGroupService = applicationContext.getBean(WorkerGroupService.class);
         this.workerGroup = workerGroupService.resolveGroupFromKey(workerGroupKey);
@@ -129,7 +149,7 @@ public class Worker implements Runnable, AutoCloseable {
             this.workerGroup,
             Worker.class,
             either -> {
-                executors.execute(() -> {
+                executors.execute(() -> this.withConcurrencyLimit(() -> {
                     if (either.isRight()) {
                         log.error("Unable to deserialize a worker job: {}", either.getRight().getMessage());
                         handleDeserializationError(either.getRight());
@@ -143,11 +163,32 @@ public class Worker implements Runnable, AutoCloseable {
                     else if (workerTask instanceof WorkerTrigger trigger) {
                         handleTrigger(trigger);
                     }
-                });
+                }));
             }
         );
     }
 
+    private void withConcurrencyLimit(Runnable runnable) {
+        if (this.concurrencySemaphore == null) {
+            runnable.run();
+            return;
+        }
+
+        try {
+            this.concurrencySemaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for a worker slot, the job will not be processed");
+            return;
+        }
+
+        try {
+            runnable.run();
+        } finally {
+            this.concurrencySemaphore.release();
+        }
+    }
+
     private void handleDeserializationError(DeserializationException deserializationException) {
         if (deserializationException.getRecord() != null) {
             try {
@@ -518,8 +559,12 @@ public class Worker implements Runnable, AutoCloseable {
             synchronized (this) {
                 workerThreadReferences.add(workerThread);
             }
-            workerThread.start();
-            workerThread.join();
+            if (this.workerThreadFactory != null) {
+                workerThread.start(this.workerThreadFactory);
+            } else {
+                workerThread.start();
+            }
+            workerThread.await();
             state = workerThread.getTaskState();
         } catch (InterruptedException e) {
             logger.error("Failed to join WorkerThread {}", e.getMessage(), e);
@@ -547,7 +592,11 @@ public class Worker implements Runnable, AutoCloseable {
         }
 
         // metrics
-        runContext.metrics().forEach(metric -> this.metricEntryQueue.emit(MetricEntry.of(workerTask.getTaskRun(), metric)));
+        this.metricEntryQueue.emitAll(runContext.metrics()
+            .stream()
+            .map(metric -> MetricEntry.of(workerTask.getTaskRun(), metric))
+            .toList()
+        );
 
         // save outputs
         List<TaskRunAttempt> attempts = this.addAttempt(workerTask, taskRunAttempt);
@@ -670,6 +719,9 @@ public class Worker implements Runnable, AutoCloseable {
         io.kestra.core.models.flows.State.Type taskState;
         boolean killed = false;
 
+        // the thread running the task, this one or a virtual thread
+        private volatile Thread thread = this;
+
         public WorkerThread(Logger logger, WorkerTask workerTask, RunnableTask<?> task, RunContext runContext, MetricRegistry metricRegistry, String workerGroup) {
             super("WorkerThread");
             this.setUncaughtExceptionHandler(this::exceptionHandler);
@@ -721,11 +773,33 @@ public class Worker implements Runnable, AutoCloseable {
             }
         }
 
+        /**
+         * Run the task on a thread created by the factory instead of this thread, for example a virtual thread.
+         */
+        public void start(ThreadFactory threadFactory) {
+            this.thread = threadFactory.newThread(() -> {
+                try {
+                    this.run();
+                } catch (Throwable e) {
+                    this.exceptionHandler(this, e);
+                }
+            });
+
+            this.thread.start();
+        }
+
+        /**
+         * Wait for the task to end, whatever the thread running it.
+         */
+        public void await() throws InterruptedException {
+            this.thread.join();
+        }
+
         @Synchronized
         public void kill() {
             this.killed = true;
             taskState = io.kestra.core.models.flows.State.Type.KILLED;
-            this.interrupt();
+            this.thread.interrupt();
         }
 
         private void exceptionHandler(Thread t, Throwable e) {
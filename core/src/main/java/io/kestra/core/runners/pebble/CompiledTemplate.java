@@ -0,0 +1,154 @@
+package io.kestra.core.runners.pebble;
+
+import io.pebbletemplates.pebble.PebbleEngine;
+import io.pebbletemplates.pebble.error.PebbleException;
+import io.pebbletemplates.pebble.template.PebbleTemplate;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A template parsed once, evaluated with the cheapest way possible:
+ * <ul>
+ *     <li>a constant when there is no expression at all,</li>
+ *     <li>a lookup on the variables maps when the template is a single variable like <code>{{ inputs.name }}</code>,
+ *     falling back to Pebble when the variable is not a plain map entry,</li>
+ *     <li>a Pebble template for everything else.</li>
+ * </ul>
+ * Raw blocks are replaced by placeholders during the parsing, and restored by {@link #restoreRaw(String)} once all
+ * the rendering is done.
+ */
+public abstract class CompiledTemplate {
+    private static final Pattern RAW_PATTERN = Pattern.compile("\\{%[-]*\\s*raw\\s*[-]*%\\}(.*?)\\{%[-]*\\s*endraw\\s*[-]*%\\}");
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("^\\{\\{\\s*([a-zA-Z_][a-zA-Z0-9_]*(?:\\.[a-zA-Z_][a-zA-Z0-9_]*)*)\\s*}}$");
+
+    private final Map<String, String> raws;
+
+    private CompiledTemplate(Map<String, String> raws) {
+        this.raws = raws;
+    }
+
+    public static CompiledTemplate compile(PebbleEngine pebbleEngine, String template) throws PebbleException {
+        Map<String, String> raws = new HashMap<>();
+        Matcher rawMatcher = RAW_PATTERN.matcher(template);
+        if (rawMatcher.find()) {
+            template = rawMatcher.replaceAll(result -> {
+                var uuid = UUID.randomUUID().toString();
+                raws.put(uuid, result.group(1));
+                return uuid;
+            });
+        }
+
+        if (!hasDelimiters(template)) {
+            return new Constant(raws, template);
+        }
+
+        PebbleTemplate pebbleTemplate = pebbleEngine.getLiteralTemplate(template);
+
+        Matcher variableMatcher = VARIABLE_PATTERN.matcher(template);
+        if (variableMatcher.matches()) {
+            return new Variable(raws, variableMatcher.group(1).split("\\."), pebbleTemplate);
+        }
+
+        return new Template(raws, pebbleTemplate);
+    }
+
+    /**
+     * Whether the string contains a Pebble delimiter, so must be rendered again.
+     */
+    public static boolean hasDelimiters(String value) {
+        int index = value.indexOf('{');
+
+        while (index != -1 && index < value.length() - 1) {
+            char next = value.charAt(index + 1);
+            if (next == '{' || next == '%' || next == '#') {
+                return true;
+            }
+
+            index = value.indexOf('{', index + 1);
+        }
+
+        return false;
+    }
+
+    /**
+     * @return the rendered value, with the raw placeholders not restored yet
+     */
+    public abstract String evaluate(Map<String, Object> variables) throws IOException, PebbleException;
+
+    public String restoreRaw(String rendered) {
+        for (Map.Entry<String, String> entry : this.raws.entrySet()) {
+            rendered = rendered.replace(entry.getKey(), entry.getValue());
+        }
+
+        return rendered;
+    }
+
+    private static String evaluate(PebbleTemplate pebbleTemplate, Map<String, Object> variables) throws IOException {
+        Writer writer = new JsonWriter(new StringWriter());
+        pebbleTemplate.evaluate(writer, variables);
+
+        return writer.toString();
+    }
+
+    private static class Constant extends CompiledTemplate {
+        private final String value;
+
+        private Constant(Map<String, String> raws, String value) {
+            super(raws);
+            this.value = value;
+        }
+
+        @Override
+        public String evaluate(Map<String, Object> variables) {
+            return this.value;
+        }
+    }
+
+    private static class Variable extends CompiledTemplate {
+        private final String[] path;
+        private final PebbleTemplate pebbleTemplate;
+
+        private Variable(Map<String, String> raws, String[] path, PebbleTemplate pebbleTemplate) {
+            super(raws);
+            this.path = path;
+            this.pebbleTemplate = pebbleTemplate;
+        }
+
+        @Override
+        public String evaluate(Map<String, Object> variables) throws IOException {
+            Object current = variables;
+
+            for (String key : this.path) {
+                if (!(current instanceof Map<?, ?> map) || (current = map.get(key)) == null) {
+                    // missing, null or not a map: let Pebble handle it (and throw the proper exception)
+                    return CompiledTemplate.evaluate(this.pebbleTemplate, variables);
+                }
+            }
+
+            // same output as the Pebble print of the value
+            JsonWriter writer = new JsonWriter(new StringWriter());
+            writer.write(current);
+
+            return writer.toString();
+        }
+    }
+
+    private static class Template extends CompiledTemplate {
+        private final PebbleTemplate pebbleTemplate;
+
+        private Template(Map<String, String> raws, PebbleTemplate pebbleTemplate) {
+            super(raws);
+            this.pebbleTemplate = pebbleTemplate;
+        }
+
+        @Override
+        public String evaluate(Map<String, Object> variables) throws IOException {
+            return CompiledTemplate.evaluate(this.pebbleTemplate, variables);
+        }
+    }
+}
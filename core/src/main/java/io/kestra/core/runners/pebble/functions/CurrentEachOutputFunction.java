@@ -1,11 +1,11 @@
 package io.kestra.core.runners.pebble.functions;
 
+import com.google.common.collect.Lists;
 import io.pebbletemplates.pebble.error.PebbleException;
 import io.pebbletemplates.pebble.extension.Function;
 import io.pebbletemplates.pebble.template.EvaluationContext;
 import io.pebbletemplates.pebble.template.PebbleTemplate;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -25,8 +25,7 @@ public class CurrentEachOutputFunction implements Function {
         Map<?, ?> outputs = (Map<?, ?>) args.get("outputs");
         List<Map<?, ?>> parents = (List<Map<?, ?>>) context.getVariable("parents");
         if (parents != null && !parents.isEmpty()) {
-            Collections.reverse(parents);
-            for (Map<?, ?> parent : parents) {
+            for (Map<?, ?> parent : Lists.reverse(parents)) {
                 outputs = (Map<?, ?>) outputs.get(((Map<?, ?>) parent.get("taskrun")).get("value"));
             }
         }
@@ -71,6 +71,11 @@ public abstract class AbstractScheduler implements Scheduler {
     @Getter
     private volatile Map<String, FlowWithPollingTriggerNextDate> schedulableNextDate = new ConcurrentHashMap<>();
 
+    // the following are only accessed while synchronized on this
+    private final Map<String, Flow> schedulableFlows = new HashMap<>();
+    private final Map<String, FlowWithTrigger> schedulableTriggers = new LinkedHashMap<>();
+    private final TriggerEvaluationQueue evaluationQueue = new TriggerEvaluationQueue();
+
     @SuppressWarnings("unchecked")
     @Inject
     public AbstractScheduler(
@@ -181,30 +186,111 @@ public abstract class AbstractScheduler implements Scheduler {
     }
 
     // must be synchronized as it update schedulableNextDate and schedulable, and will be executed on the flow listener thread
+    // only the flows that changed since the last call are computed again
     private synchronized void computeSchedulable(List<Flow> flows) {
-        this.schedulableNextDate = new HashMap<>();
-
-        this.schedulable = flows
+        Map<String, Flow> current = new HashMap<>();
+        flows
             .stream()
             .filter(flow -> flow.getTriggers() != null && !flow.getTriggers().isEmpty())
             .filter(flow -> !flow.isDisabled() && !(flow instanceof FlowWithException))
-            .flatMap(flow -> flow.getTriggers()
-                .stream()
-                .filter(abstractTrigger -> !abstractTrigger.isDisabled() && abstractTrigger instanceof PollingTriggerInterface)
-                .map(trigger -> {
-                    RunContext runContext = runContextFactory.of(flow, trigger);
-
-                    return new FlowWithTrigger(
-                        flow,
-                        trigger,
-                        runContext,
-                        conditionService.conditionContext(runContext, flow, null)
-                    );
-                })
-            )
+            .forEach(flow -> current.put(flow.uidWithoutRevision(), flow));
+
+        boolean changed = false;
+
+        Iterator<Map.Entry<String, Flow>> iterator = this.schedulableFlows.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Flow> entry = iterator.next();
+            if (!current.containsKey(entry.getKey())) {
+                this.removeSchedulable(entry.getValue());
+                iterator.remove();
+                changed = true;
+            }
+        }
+
+        for (Map.Entry<String, Flow> entry : current.entrySet()) {
+            Flow previous = this.schedulableFlows.get(entry.getKey());
+            Flow flow = entry.getValue();
+
+            if (previous == flow || flow.equals(previous)) {
+                continue;
+            }
+
+            if (previous != null) {
+                this.removeSchedulable(previous);
+            }
+
+            this.addSchedulable(flow);
+            this.schedulableFlows.put(entry.getKey(), flow);
+            changed = true;
+        }
+
+        if (changed) {
+            this.schedulable = List.copyOf(this.schedulableTriggers.values());
+        }
+    }
+
+    private void addSchedulable(Flow flow) {
+        flow.getTriggers()
+            .stream()
+            .filter(abstractTrigger -> !abstractTrigger.isDisabled() && abstractTrigger instanceof PollingTriggerInterface)
+            .forEach(trigger -> {
+                RunContext runContext = runContextFactory.of(flow, trigger);
+                String uid = Trigger.uid(flow, trigger);
+
+                this.schedulableTriggers.put(uid, new FlowWithTrigger(
+                    flow,
+                    trigger,
+                    runContext,
+                    conditionService.conditionContext(runContext, flow, null)
+                ));
+
+                this.evaluationQueue.schedule(uid, Instant.now());
+            });
+    }
+
+    private void removeSchedulable(Flow flow) {
+        flow.getTriggers()
+            .forEach(trigger -> {
+                String uid = Trigger.uid(flow, trigger);
+
+                this.schedulableTriggers.remove(uid);
+                this.schedulableNextDate.remove(uid);
+                this.evaluationQueue.remove(uid);
+            });
+    }
+
+    /**
+     * Force the evaluation of a trigger on the next scheduler loop, for example when its state changed outside the scheduler.
+     */
+    protected synchronized void wakeup(String triggerUid) {
+        if (this.schedulableTriggers.containsKey(triggerUid)) {
+            this.evaluationQueue.schedule(triggerUid, Instant.now());
+        }
+    }
+
+    /**
+     * Pop from the evaluation queue the triggers that are due.
+     */
+    private List<FlowWithTrigger> dueSchedulable(ZonedDateTime now) {
+        return this.evaluationQueue
+            .due(now.toInstant())
+            .stream()
+            .map(this.schedulableTriggers::get)
+            .filter(Objects::nonNull)
             .toList();
     }
 
+    private Instant nextEvaluationDate(FlowWithTrigger flowWithTrigger, Map<String, ZonedDateTime> nextDates, ZonedDateTime now) {
+        String uid = Trigger.uid(flowWithTrigger.getFlow(), flowWithTrigger.getTrigger());
+
+        return TriggerEvaluationQueue.nextEvaluationDate(
+            ((PollingTriggerInterface) flowWithTrigger.getTrigger()).getInterval(),
+            this.lastEvaluate.get(uid),
+            nextDates.get(uid),
+            now
+        );
+    }
+
     private void handle() {
         if (!this.isReady) {
             log.warn("Scheduler is not ready, waiting");
@@ -226,8 +312,11 @@ public abstract class AbstractScheduler implements Scheduler {
         }
 
         synchronized (this) {
+            // only the triggers whose next evaluation date is reached are evaluated
+            List<FlowWithTrigger> due = this.dueSchedulable(now);
+
             // get all triggers that are ready from evaluation
-            List<FlowWithPollingTriggerNextDate> readyForEvaluate = schedulable
+            List<FlowWithPollingTriggerNextDate> readyForEvaluate = due
                 .stream()
                 .filter(f -> conditionService.isValid(f.getFlow(), f.getTrigger(), f.getConditionContext()))
                 .map(flowWithTrigger -> FlowWithPollingTrigger.builder()
@@ -269,9 +358,10 @@ public abstract class AbstractScheduler implements Scheduler {
 
             if (log.isTraceEnabled()) {
                 log.trace(
-                    "Scheduler will evaluate for {} with {} readyForEvaluate of {} schedulables",
+                    "Scheduler will evaluate for {} with {} readyForEvaluate of {} due of {} schedulables",
                     now,
                     readyForEvaluate.size(),
+                    due.size(),
                     schedulable.size()
                 );
             }
@@ -329,6 +419,15 @@ public abstract class AbstractScheduler implements Scheduler {
                         );
                     }
                 });
+
+            // reschedule the evaluated triggers
+            Map<String, ZonedDateTime> nextDates = new HashMap<>();
+            readyForEvaluate.forEach(f -> nextDates.put(f.getTriggerContext().uid(), f.getNext()));
+
+            due.forEach(f -> this.evaluationQueue.schedule(
+                Trigger.uid(f.getFlow(), f.getTrigger()),
+                this.nextEvaluationDate(f, nextDates, now)
+            ));
         }
     }
 
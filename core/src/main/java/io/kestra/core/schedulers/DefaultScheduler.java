@@ -61,6 +61,7 @@ public class DefaultScheduler extends AbstractScheduler {
                 if (execution.isDeleted() || conditionService.isTerminatedWithListeners(flow, execution)) {
                     triggerState.save(trigger.resetExecution());
                     watchingTrigger.remove(execution.getId());
+                    this.wakeup(trigger.uid());
                 } else {
                     triggerState.save(Trigger.of(execution, trigger.getDate()));
                 }
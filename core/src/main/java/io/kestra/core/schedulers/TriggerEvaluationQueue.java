@@ -0,0 +1,92 @@
+package io.kestra.core.schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * The next evaluation date of each trigger, ordered so that the scheduler only polls the triggers that are due.
+ * Not thread safe, the scheduler accesses it while synchronized.
+ */
+class TriggerEvaluationQueue {
+    // the delay is capped so that trigger states updated from outside the scheduler (backfill, unlock) are not missed
+    static final Duration MAX_EVALUATION_DELAY = Duration.ofMinutes(1);
+
+    // next evaluation date by trigger uid, the queue can contain outdated entries that are skipped when polled
+    private final Map<String, Instant> nextEvaluation = new HashMap<>();
+    private final PriorityQueue<ScheduledEvaluation> queue = new PriorityQueue<>();
+
+    /**
+     * Schedule the evaluation of a trigger, unless it's already scheduled before this date.
+     */
+    void schedule(String uid, Instant date) {
+        Instant previous = this.nextEvaluation.get(uid);
+        if (previous != null && !previous.isAfter(date)) {
+            return;
+        }
+
+        this.nextEvaluation.put(uid, date);
+        this.queue.add(new ScheduledEvaluation(date, uid));
+    }
+
+    void remove(String uid) {
+        this.nextEvaluation.remove(uid);
+    }
+
+    /**
+     * Pop the uid of the triggers that are due, the earliest first. They must be scheduled again once evaluated.
+     */
+    List<String> due(Instant now) {
+        List<String> due = new ArrayList<>();
+
+        while (!this.queue.isEmpty() && !this.queue.peek().date().isAfter(now)) {
+            ScheduledEvaluation evaluation = this.queue.poll();
+
+            // outdated entry, the trigger was rescheduled or removed
+            if (!evaluation.date().equals(this.nextEvaluation.get(evaluation.uid()))) {
+                continue;
+            }
+
+            this.nextEvaluation.remove(evaluation.uid());
+            due.add(evaluation.uid());
+        }
+
+        return due;
+    }
+
+    /**
+     * Compute the next date a trigger must be evaluated:
+     * - for polling triggers with an interval, after the interval is elapsed from the last evaluation
+     * - for a Schedule, at its next date if it's in the future
+     * - else on the next loop, as the trigger may be blocked by a condition or a running execution.
+     */
+    static Instant nextEvaluationDate(Duration interval, ZonedDateTime lastEvaluate, ZonedDateTime nextDate, ZonedDateTime now) {
+        ZonedDateTime next = now.plusSeconds(1);
+        if (interval != null && lastEvaluate != null) {
+            next = lastEvaluate.plus(interval).plusSeconds(1);
+        } else if (nextDate != null && nextDate.isAfter(now)) {
+            next = nextDate;
+        }
+
+        ZonedDateTime max = now.plus(MAX_EVALUATION_DELAY);
+        if (next.isAfter(max)) {
+            next = max;
+        } else if (!next.isAfter(now)) {
+            next = now.plusSeconds(1);
+        }
+
+        return next.toInstant();
+    }
+
+    private record ScheduledEvaluation(Instant date, String uid) implements Comparable<ScheduledEvaluation> {
+        @Override
+        public int compareTo(ScheduledEvaluation o) {
+            return this.date.compareTo(o.date);
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package io.kestra.core.services;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.kestra.core.models.conditions.types.MultipleCondition;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.flows.Flow;
-import io.kestra.core.models.flows.FlowWithException;
 import io.kestra.core.models.triggers.AbstractTrigger;
 import io.kestra.core.models.triggers.multipleflows.MultipleConditionStorageInterface;
 import io.kestra.core.models.triggers.multipleflows.MultipleConditionWindow;
@@ -14,6 +15,7 @@ import lombok.Getter;
 import lombok.ToString;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -28,6 +30,11 @@ public abstract class AbstractFlowTriggerService {
     @Inject
     private FlowService flowService;
 
+    // the flow listeners share a new immutable list on each flow change, so the index is rebuilt only when a flow changed
+    private final Cache<List<Flow>, FlowTriggerIndex> indexes = CacheBuilder.newBuilder()
+        .weakKeys()
+        .build();
+
     public Stream<FlowWithFlowTrigger> withFlowTriggersOnly(Stream<Flow> allFlows) {
         return allFlows
             .filter(flow -> !flow.isDisabled())
@@ -44,14 +51,11 @@ public abstract class AbstractFlowTriggerService {
     }
 
     public List<Execution> computeExecutionsFromFlowTriggers(Execution execution, List<Flow> allFlows, Optional<MultipleConditionStorageInterface> multipleConditionStorage) {
-        List<FlowWithFlowTrigger> validTriggersBeforeMultipleConditionEval = allFlows.stream()
+        // only the enabled flow triggers that can listen to this execution
+        List<FlowWithFlowTrigger> validTriggersBeforeMultipleConditionEval = this.index(allFlows).candidates(execution).stream()
             // prevent recursive flow triggers
-            .filter(flow -> flowService.removeUnwanted(flow, execution))
-            // ensure flow & triggers are enabled
-            .filter(flow -> !flow.isDisabled() && !(flow instanceof FlowWithException))
-            .filter(flow -> flow.getTriggers() != null && !flow.getTriggers().isEmpty())
+            .filter(flowWithFlowTrigger -> flowService.removeUnwanted(flowWithFlowTrigger.getFlow(), execution))
             // validate flow triggers conditions excluding multiple conditions
-            .flatMap(flow -> flowTriggers(flow).map(trigger -> new FlowWithFlowTrigger(flow, trigger)))
             .filter(flowWithFlowTrigger -> conditionService.valid(
                 flowWithFlowTrigger.getFlow(),
                 Optional.ofNullable(flowWithFlowTrigger.getTrigger().getConditions()).stream().flatMap(Collection::stream)
@@ -119,24 +123,44 @@ public abstract class AbstractFlowTriggerService {
             .toList();
 
         if(multipleConditionStorage.isPresent() && multipleConditionWindowsByFlow != null) {
-            // purge fulfilled or expired multiple condition windows
-            Stream.concat(
-                multipleConditionWindowsByFlow.keySet().stream()
-                    .map(f -> Map.entry(
-                        f.getMultipleCondition().getConditions(),
-                        multipleConditionStorage.get().getOrCreate(f.getFlow(), f.getMultipleCondition())
-                    ))
-                    .filter(e -> e.getKey().size() == Optional.ofNullable(e.getValue().getResults())
-                        .map(Map::size)
-                        .orElse(0))
-                    .map(Map.Entry::getValue),
-                multipleConditionStorage.get().expired(execution.getTenantId()).stream()
-            ).forEach(multipleConditionStorage.get()::delete);
+            // purge fulfilled multiple condition windows, expired ones are purged by purgeExpiredMultipleConditionWindows
+            multipleConditionWindowsByFlow.keySet().stream()
+                .map(f -> Map.entry(
+                    f.getMultipleCondition().getConditions(),
+                    multipleConditionStorage.get().getOrCreate(f.getFlow(), f.getMultipleCondition())
+                ))
+                .filter(e -> e.getKey().size() == Optional.ofNullable(e.getValue().getResults())
+                    .map(Map::size)
+                    .orElse(0))
+                .map(Map.Entry::getValue)
+                .forEach(multipleConditionStorage.get()::delete);
         }
 
         return executions;
     }
 
+    /**
+     * Purge the expired multiple condition windows of the tenants of the flows, meant to be called periodically.
+     * Expired windows are never used as {@link MultipleConditionStorageInterface#getOrCreate} only returns valid ones,
+     * so they don't need to be purged on each execution.
+     */
+    public void purgeExpiredMultipleConditionWindows(List<Flow> allFlows, MultipleConditionStorageInterface multipleConditionStorage) {
+        allFlows.stream()
+            .map(Flow::getTenantId)
+            .collect(Collectors.toSet())
+            .stream()
+            .flatMap(tenantId -> multipleConditionStorage.expired(tenantId).stream())
+            .forEach(multipleConditionStorage::delete);
+    }
+
+    private FlowTriggerIndex index(List<Flow> allFlows) {
+        try {
+            return indexes.get(allFlows, () -> new FlowTriggerIndex(allFlows, this));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
     @AllArgsConstructor
     @Getter
     @ToString
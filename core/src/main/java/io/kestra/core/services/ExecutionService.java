@@ -3,6 +3,7 @@ package io.kestra.core.services;
 import io.kestra.core.events.CrudEvent;
 import io.kestra.core.events.CrudEventType;
 import io.kestra.core.exceptions.InternalException;
+import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.executions.TaskRun;
 import io.kestra.core.models.executions.TaskRunAttempt;
@@ -19,8 +20,10 @@ import io.kestra.core.repositories.LogRepositoryInterface;
 import io.kestra.core.repositories.MetricRepositoryInterface;
 import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.tasks.flows.WorkingDirectory;
+import io.kestra.core.utils.ExecutorsUtils;
 import io.kestra.core.utils.GraphUtils;
 import io.kestra.core.utils.IdUtils;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.core.annotation.Nullable;
 import jakarta.inject.Inject;
@@ -33,8 +36,12 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.net.URI;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -67,6 +74,20 @@ public class ExecutionService {
     @Inject
     private ApplicationEventPublisher<CrudEvent<Execution>> eventPublisher;
 
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    @Inject
+    private ExecutorsUtils executorsUtils;
+
+    @Value("${kestra.purge.chunk-size:500}")
+    private int purgeChunkSize;
+
+    @Value("${kestra.purge.storage-threads:8}")
+    private int purgeStorageThreads;
+
+    private ExecutorService purgeStorageExecutor;
+
     public Execution restart(final Execution execution, @Nullable Integer revision) throws Exception {
         if (!(execution.getState().isTerminated() || execution.getState().isPaused())) {
             throw new IllegalStateException("Execution must be terminated to be restarted, " +
@@ -232,6 +253,11 @@ public class ExecutionService {
             .withState(State.Type.RESTARTED);
     }
 
+    /**
+     * Purge the executions by chunks: each chunk is deleted with a statement by repository, and the files of its
+     * executions are deleted in parallel. As the executions themselves are deleted last and each chunk is committed,
+     * an interrupted purge can be resumed by running it again.
+     */
     public PurgeResult purge(
         Boolean purgeExecution,
         Boolean purgeLog,
@@ -243,8 +269,13 @@ public class ExecutionService {
         @Nullable ZonedDateTime endDate,
         @Nullable List<State.Type> state
     ) throws IOException {
-        PurgeResult purgeResult = this.executionRepository
-            .find(
+        PurgeResult purgeResult = PurgeResult.builder().build();
+        long start = System.currentTimeMillis();
+        String afterId = null;
+        List<Execution> executions;
+
+        do {
+            executions = this.executionRepository.findAfter(
                 null,
                 tenantId,
                 namespace,
@@ -253,44 +284,97 @@ public class ExecutionService {
                 endDate,
                 state,
                 null,
-                null
-            )
-            .map(execution -> {
-                PurgeResult.PurgeResultBuilder<?, ?> builder = PurgeResult.builder();
+                null,
+                afterId,
+                this.purgeChunkSize
+            );
 
-                if (purgeExecution) {
-                    builder.executionsCount(this.executionRepository.purge(execution));
-                }
+            if (executions.isEmpty()) {
+                break;
+            }
 
-                if (purgeLog) {
-                    builder.logsCount(this.logRepository.purge(execution));
-                }
+            PurgeResult.PurgeResultBuilder<?, ?> builder = purgeResult.toBuilder();
+            long chunkStart = System.nanoTime();
 
-                if(purgeMetric) {
-                    this.metricRepository.purge(execution);
-                }
+            if (purgeStorage) {
+                int count = this.purgeStorage(executions);
+                metricRegistry.counter(MetricRegistry.PURGE_STORAGE_COUNT).increment(count);
+                builder.storagesCount(purgeResult.getStoragesCount() + count);
+            }
 
-                if (purgeStorage) {
-                    builder.storagesCount(storageInterface.deleteByPrefix(execution.getTenantId(), URI.create("kestra://" + storageInterface.executionPrefix(
-                        execution))).size());
-                }
+            if (purgeLog) {
+                int count = this.logRepository.purge(executions);
+                metricRegistry.counter(MetricRegistry.PURGE_LOG_COUNT).increment(count);
+                builder.logsCount(purgeResult.getLogsCount() + count);
+            }
 
-                return (PurgeResult) builder.build();
-            })
-            .reduce((a, b) -> a
-                .toBuilder()
-                .executionsCount(a.getExecutionsCount() + b.getExecutionsCount())
-                .logsCount(a.getLogsCount() + b.getLogsCount())
-                .storagesCount(a.getStoragesCount() + b.getStoragesCount())
-                .build()
-            )
-            .blockingGet();
+            if (purgeMetric) {
+                this.metricRepository.purge(executions);
+            }
+
+            if (purgeExecution) {
+                int count = this.executionRepository.purge(executions);
+                metricRegistry.counter(MetricRegistry.PURGE_EXECUTION_COUNT).increment(count);
+                builder.executionsCount(purgeResult.getExecutionsCount() + count);
+            }
+
+            purgeResult = builder
+                .processedCount(purgeResult.getProcessedCount() + executions.size())
+                .build();
+            metricRegistry.timer(MetricRegistry.PURGE_CHUNK_DURATION).record(Duration.ofNanos(System.nanoTime() - chunkStart));
+
+            long elapsed = Math.max(System.currentTimeMillis() - start, 1);
+            log.info(
+                "Purge in progress, {} executions processed in {} ({} executions/s): {} executions, {} logs and {} files deleted",
+                purgeResult.getProcessedCount(),
+                Duration.ofMillis(elapsed),
+                purgeResult.getProcessedCount() * 1000L / elapsed,
+                purgeResult.getExecutionsCount(),
+                purgeResult.getLogsCount(),
+                purgeResult.getStoragesCount()
+            );
+
+            afterId = executions.get(executions.size() - 1).getId();
+        } while (executions.size() == this.purgeChunkSize);
+
+        return purgeResult;
+    }
+
+    private int purgeStorage(List<Execution> executions) throws IOException {
+        List<Future<Integer>> futures = executions
+            .stream()
+            .map(execution -> this.purgeStorageExecutor().submit(() -> storageInterface
+                .deleteByPrefix(execution.getTenantId(), URI.create("kestra://" + storageInterface.executionPrefix(execution)))
+                .size()
+            ))
+            .toList();
+
+        int count = 0;
+        try {
+            for (Future<Integer> future : futures) {
+                count = count + future.get();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while purging the internal storage", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(e.getCause());
+        }
+
+        return count;
+    }
 
-        if (purgeResult != null) {
-            return purgeResult;
+    private synchronized ExecutorService purgeStorageExecutor() {
+        if (this.purgeStorageExecutor == null) {
+            this.purgeStorageExecutor = executorsUtils.maxCachedThreadPool(this.purgeStorageThreads, "purge-storage");
         }
 
-        return PurgeResult.builder().build();
+        return this.purgeStorageExecutor;
     }
 
     /**
@@ -362,6 +446,9 @@ public class ExecutionService {
     @Getter
     @SuperBuilder(toBuilder = true)
     public static class PurgeResult {
+        @Builder.Default
+        private int processedCount = 0;
+
         @Builder.Default
         private int executionsCount = 0;
 
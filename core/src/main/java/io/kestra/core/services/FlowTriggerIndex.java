@@ -0,0 +1,144 @@
+package io.kestra.core.services;
+
+import io.kestra.core.models.conditions.Condition;
+import io.kestra.core.models.conditions.types.ExecutionFlowCondition;
+import io.kestra.core.models.conditions.types.ExecutionNamespaceCondition;
+import io.kestra.core.models.conditions.types.ExecutionStatusCondition;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.FlowWithException;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.utils.ListUtils;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Immutable index of the flow triggers of a list of flows, by the upstream flow or namespace they listen to.
+ * A flow trigger is indexed with the most selective of its {@link ExecutionFlowCondition} or
+ * {@link ExecutionNamespaceCondition}, the ones without such a condition are always candidates and evaluated for
+ * each execution. The states of the {@link ExecutionStatusCondition} are used to discard the candidates early.
+ * <p>
+ * The index only returns candidates, all the conditions must still be evaluated.
+ */
+final class FlowTriggerIndex {
+    private final Map<String, List<Entry>> byFlow = new HashMap<>();
+    private final Map<String, List<Entry>> byNamespace = new HashMap<>();
+    private final Map<String, List<Entry>> byNamespacePrefix = new HashMap<>();
+    private final List<Entry> mustEvaluate = new ArrayList<>();
+
+    FlowTriggerIndex(List<Flow> flows, AbstractFlowTriggerService flowTriggerService) {
+        int position = 0;
+
+        for (Flow flow : flows) {
+            if (flow.isDisabled() || flow instanceof FlowWithException || flow.getTriggers() == null || flow.getTriggers().isEmpty()) {
+                continue;
+            }
+
+            for (io.kestra.core.models.triggers.types.Flow trigger : flowTriggerService.flowTriggers(flow).toList()) {
+                this.add(new Entry(position++, new AbstractFlowTriggerService.FlowWithFlowTrigger(flow, trigger), states(trigger)));
+            }
+        }
+    }
+
+    private void add(Entry entry) {
+        List<Condition> conditions = ListUtils.emptyOnNull(entry.flowWithFlowTrigger().getTrigger().getConditions());
+
+        Optional<ExecutionFlowCondition> flowCondition = conditions.stream()
+            .filter(ExecutionFlowCondition.class::isInstance)
+            .map(ExecutionFlowCondition.class::cast)
+            .filter(condition -> condition.getNamespace() != null && condition.getFlowId() != null)
+            .findFirst();
+
+        if (flowCondition.isPresent()) {
+            byFlow.computeIfAbsent(flowKey(flowCondition.get().getNamespace(), flowCondition.get().getFlowId()), s -> new ArrayList<>()).add(entry);
+            return;
+        }
+
+        List<ExecutionNamespaceCondition> namespaceConditions = conditions.stream()
+            .filter(ExecutionNamespaceCondition.class::isInstance)
+            .map(ExecutionNamespaceCondition.class::cast)
+            .filter(condition -> condition.getNamespace() != null)
+            .toList();
+
+        Optional<ExecutionNamespaceCondition> exact = namespaceConditions.stream()
+            .filter(condition -> !Boolean.TRUE.equals(condition.getPrefix()))
+            .findFirst();
+
+        if (exact.isPresent()) {
+            byNamespace.computeIfAbsent(exact.get().getNamespace(), s -> new ArrayList<>()).add(entry);
+            return;
+        }
+
+        // the longest prefix is the most selective one
+        Optional<ExecutionNamespaceCondition> prefix = namespaceConditions.stream()
+            .max(Comparator.comparingInt(condition -> condition.getNamespace().length()));
+
+        if (prefix.isPresent()) {
+            byNamespacePrefix.computeIfAbsent(prefix.get().getNamespace(), s -> new ArrayList<>()).add(entry);
+            return;
+        }
+
+        mustEvaluate.add(entry);
+    }
+
+    /**
+     * @return the states allowed by all the {@link ExecutionStatusCondition} of the trigger
+     */
+    private static Set<State.Type> states(io.kestra.core.models.triggers.types.Flow trigger) {
+        EnumSet<State.Type> states = EnumSet.allOf(State.Type.class);
+
+        ListUtils.emptyOnNull(trigger.getConditions())
+            .stream()
+            .filter(ExecutionStatusCondition.class::isInstance)
+            .map(ExecutionStatusCondition.class::cast)
+            .forEach(condition -> {
+                if (condition.getIn() != null) {
+                    states.retainAll(condition.getIn());
+                }
+
+                if (condition.getNotIn() != null) {
+                    condition.getNotIn().forEach(states::remove);
+                }
+            });
+
+        return states;
+    }
+
+    /**
+     * @return the flow triggers that can be triggered by this execution, in the order of the flows.
+     */
+    List<AbstractFlowTriggerService.FlowWithFlowTrigger> candidates(Execution execution) {
+        String namespace = execution.getNamespace();
+        State.Type state = execution.getState().getCurrent();
+
+        Stream<Entry> prefixes = Stream.empty();
+        if (!byNamespacePrefix.isEmpty()) {
+            for (int i = 0; i <= namespace.length(); i++) {
+                List<Entry> entries = byNamespacePrefix.get(namespace.substring(0, i));
+                if (entries != null) {
+                    prefixes = Stream.concat(prefixes, entries.stream());
+                }
+            }
+        }
+
+        return Stream.of(
+                byFlow.getOrDefault(flowKey(namespace, execution.getFlowId()), List.of()).stream(),
+                byNamespace.getOrDefault(namespace, List.of()).stream(),
+                prefixes,
+                mustEvaluate.stream()
+            )
+            .flatMap(entries -> entries)
+            .filter(entry -> entry.states().contains(state))
+            .sorted(Comparator.comparingInt(Entry::position))
+            .map(Entry::flowWithFlowTrigger)
+            .toList();
+    }
+
+    private static String flowKey(String namespace, String flowId) {
+        return namespace + "|" + flowId;
+    }
+
+    private record Entry(int position, AbstractFlowTriggerService.FlowWithFlowTrigger flowWithFlowTrigger, Set<State.Type> states) {
+    }
+}
@@ -3,11 +3,13 @@ package io.kestra.core.services;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.storages.StorageSplitInterface;
 import io.micronaut.core.convert.format.ReadableBytesTypeConverter;
+import org.apache.commons.io.input.BoundedInputStream;
 
 import java.io.*;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,28 +21,22 @@ import static io.kestra.core.utils.Rethrow.throwFunction;
 
 public abstract class StorageService {
 
+    /**
+     * The start offsets of each batch of a split file, followed by the end of the file, stored as longs on an internal
+     * storage file, so that only the needed batches are written, see {@link #splitIndex} and {@link #readSplits}.
+     */
+    public record SplitIndex(URI uri, int size) {}
+
     public static List<URI> split(RunContext runContext, StorageSplitInterface storageSplitInterface, URI from) throws IOException {
-        String fromPath = from.getPath();
-        String extension = ".tmp";
-        if (fromPath.indexOf('.') >= 0) {
-            extension = fromPath.substring(fromPath.lastIndexOf('.'));
-        }
+        String extension = extension(from);
 
         try (BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(runContext.uriToInputStream(from)))) {
             List<Path> splited;
 
-            if (storageSplitInterface.getBytes() != null) {
-                ReadableBytesTypeConverter readableBytesTypeConverter = new ReadableBytesTypeConverter();
-                Number convert = readableBytesTypeConverter.convert(storageSplitInterface.getBytes(), Number.class)
-                    .orElseThrow(() -> new IllegalArgumentException("Invalid size with value '" + storageSplitInterface.getBytes() + "'"));
-
-                splited = StorageService.split(runContext, extension, storageSplitInterface.getSeparator(), bufferedReader, (bytes, size) -> bytes >= convert.longValue());
-            } else if (storageSplitInterface.getPartitions() != null) {
+            if (storageSplitInterface.getPartitions() != null && storageSplitInterface.getBytes() == null) {
                 splited = StorageService.partition(runContext, extension, storageSplitInterface.getSeparator(), bufferedReader, storageSplitInterface.getPartitions());
-            } else if (storageSplitInterface.getRows() != null) {
-                splited = StorageService.split(runContext, extension, storageSplitInterface.getSeparator(), bufferedReader, (bytes, size) -> size >= storageSplitInterface.getRows());
             } else {
-                throw new IllegalArgumentException("Invalid configuration with no size, count, nor rows");
+                splited = StorageService.split(runContext, extension, storageSplitInterface.getSeparator(), bufferedReader, predicate(storageSplitInterface));
             }
 
             return splited
@@ -50,6 +46,133 @@ public abstract class StorageService {
         }
     }
 
+    /**
+     * Scan the file once to find where each batch starts, without writing the batches: they can then be written only
+     * when needed with {@link #readSplits}. Only splitting by bytes or rows is supported, as the partitions are not
+     * contiguous ranges of the file.
+     * The scan is a single sequential read with constant memory, stopped with an {@link IllegalArgumentException} as
+     * soon as more than <code>maxSize</code> bytes are read.
+     */
+    public static SplitIndex splitIndex(RunContext runContext, StorageSplitInterface storageSplitInterface, URI from, long maxSize) throws IOException {
+        BiFunction<Integer, Integer, Boolean> predicate = predicate(storageSplitInterface);
+        int separatorLength = storageSplitInterface.getSeparator().getBytes(StandardCharsets.UTF_8).length;
+
+        Path path = runContext.tempFile(".idx");
+        int size = 0;
+
+        try (
+            InputStream inputStream = runContext.uriToInputStream(from);
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))
+        ) {
+            byte[] buffer = new byte[8192];
+            long position = 0;
+            long rowStart = 0;
+            int rowLength = 0;
+            boolean carriageReturn = false;
+            int totalBytes = 0;
+            int totalRows = 0;
+            int read;
+
+            while ((read = inputStream.read(buffer)) != -1) {
+                if (position + read > maxSize) {
+                    throw new IllegalArgumentException("Unable to index the items from " + from + ", the file is larger than the maximum of " + maxSize + " bytes");
+                }
+
+                for (int i = 0; i < read; i++) {
+                    position++;
+
+                    if (buffer[i] != '\n') {
+                        rowLength++;
+                        carriageReturn = buffer[i] == '\r';
+                        continue;
+                    }
+
+                    // same rows as BufferedReader.readLine(), the line terminator is replaced by the separator
+                    if (size == 0 || predicate.apply(totalBytes, totalRows)) {
+                        output.writeLong(rowStart);
+                        size++;
+                        totalBytes = 0;
+                        totalRows = 0;
+                    }
+
+                    totalBytes = totalBytes + (carriageReturn ? rowLength - 1 : rowLength) + separatorLength;
+                    totalRows = totalRows + 1;
+
+                    rowStart = position;
+                    rowLength = 0;
+                    carriageReturn = false;
+                }
+            }
+
+            // last row without line terminator
+            if (position > rowStart && (size == 0 || predicate.apply(totalBytes, totalRows))) {
+                output.writeLong(rowStart);
+                size++;
+            }
+
+            output.writeLong(position);
+        }
+
+        return new SplitIndex(runContext.putTempFile(path.toFile()), size);
+    }
+
+    /**
+     * Write the batches from <code>start</code> (0 based) to <code>start + count</code> (exclusive) of a file indexed
+     * with {@link #splitIndex}, with the same content as the files of {@link #split}.
+     * Both the index and the items file are only read from the offset of the first batch, with a ranged read if the
+     * storage supports it, so a window doesn't read again the batches before it.
+     */
+    public static List<URI> readSplits(RunContext runContext, StorageSplitInterface storageSplitInterface, URI from, SplitIndex index, int start, int count) throws IOException {
+        long[] offsets = new long[count + 1];
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(runContext.uriToInputStream(index.uri(), (long) start * Long.BYTES)))) {
+            for (int i = 0; i <= count; i++) {
+                offsets[i] = input.readLong();
+            }
+        }
+
+        String extension = extension(from);
+        List<URI> splits = new ArrayList<>(count);
+
+        try (InputStream inputStream = new BufferedInputStream(runContext.uriToInputStream(from, offsets[0]))) {
+            for (int i = 0; i < count; i++) {
+                // bounded on the batch, and not closed as the underlying stream is shared by all the batches
+                BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(
+                    new BoundedInputStream(inputStream, offsets[i + 1] - offsets[i])
+                ));
+
+                List<Path> splited = StorageService.split(runContext, extension, storageSplitInterface.getSeparator(), bufferedReader, (bytes, size) -> false);
+                splits.add(runContext.putTempFile(splited.get(0).toFile()));
+            }
+        }
+
+        return splits;
+    }
+
+    private static String extension(URI from) {
+        String fromPath = from.getPath();
+        String extension = ".tmp";
+        if (fromPath.indexOf('.') >= 0) {
+            extension = fromPath.substring(fromPath.lastIndexOf('.'));
+        }
+
+        return extension;
+    }
+
+    private static BiFunction<Integer, Integer, Boolean> predicate(StorageSplitInterface storageSplitInterface) {
+        if (storageSplitInterface.getBytes() != null) {
+            ReadableBytesTypeConverter readableBytesTypeConverter = new ReadableBytesTypeConverter();
+            Number convert = readableBytesTypeConverter.convert(storageSplitInterface.getBytes(), Number.class)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid size with value '" + storageSplitInterface.getBytes() + "'"));
+
+            return (bytes, size) -> bytes >= convert.longValue();
+        } else if (storageSplitInterface.getRows() != null) {
+            return (bytes, size) -> size >= storageSplitInterface.getRows();
+        } else {
+            throw new IllegalArgumentException("Invalid configuration with no size, count, nor rows");
+        }
+    }
+
     private static List<Path> split(RunContext runContext, String extension, String separator, BufferedReader bufferedReader, BiFunction<Integer, Integer, Boolean> predicate) throws IOException {
         List<Path> files = new ArrayList<>();
         RandomAccessFile write = null;
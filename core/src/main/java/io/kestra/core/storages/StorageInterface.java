@@ -30,6 +30,25 @@ public interface StorageInterface {
     @Retryable(includes = {IOException.class}, excludes = {FileNotFoundException.class})
     InputStream get(String tenantId, URI uri) throws IOException;
 
+    /**
+     * Read an object from the given byte offset.
+     * The default implementation reads and discards the bytes before the offset, storages able to read a range of an
+     * object should override it.
+     */
+    @Retryable(includes = {IOException.class}, excludes = {FileNotFoundException.class})
+    default InputStream get(String tenantId, URI uri, long offset) throws IOException {
+        InputStream inputStream = get(tenantId, uri);
+
+        try {
+            inputStream.skipNBytes(offset);
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+
+        return inputStream;
+    }
+
     /**
      * Returns all objects that start with the given prefix
      * @param includeDirectories whether to include directories in the given results or not. If true, directories' uri will have a trailing '/'
@@ -18,6 +18,7 @@ import io.kestra.core.runners.SubflowExecution;
 import io.kestra.core.runners.SubflowExecutionResult;
 import io.kestra.core.services.StorageService;
 import io.kestra.core.storages.StorageSplitInterface;
+import io.micronaut.core.convert.format.ReadableBytesTypeConverter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -29,11 +30,13 @@ import lombok.experimental.SuperBuilder;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
@@ -108,6 +111,8 @@ import static io.kestra.core.utils.Rethrow.throwFunction;
     }
 )
 public class ForEachItem extends Task implements ExecutableTask<ForEachItem.Output> {
+    private static final String DEFAULT_MAX_INDEXED_SIZE = "1GB";
+
     @NotEmpty
     @PluginProperty(dynamic = true)
     @Schema(title = "The items to be split into batches and processed. Make sure to set it to Kestra's internal storage URI. This can be either the output from a previous task, formatted as `{{ outputs.task_id.uri }}`, or a FILE type input parameter, like `{{ inputs.myfile }}`. This task is optimized for files where each line represents a single item. Suitable file types include Amazon ION-type files (commonly produced by Query tasks), newline-separated JSON files, or CSV files formatted with one row per line and without a header. For files in other formats such as Excel, CSV, Avro, Parquet, XML, or JSON, it's recommended to first convert them to the ION format. This can be done using the conversion tasks available in the `io.kestra.plugin.serdes` module, which will transform files from their original format to ION.")
@@ -175,6 +180,16 @@ public class ForEachItem extends Task implements ExecutableTask<ForEachItem.Outp
     @PluginProperty
     private final Boolean inheritLabels = false;
 
+    @Min(1)
+    @Schema(
+        title = "The maximum number of subflow executions running at the same time.",
+        description = "By default, all the batches are created and all the subflow executions are submitted at once. When set, the batches are created and the subflow executions submitted as the previous ones terminate.\n" +
+            "Note that this option works only if `wait` is set to `true` and the items are split by `rows` or `bytes`. " +
+            "The items file is then indexed by the executor and must be smaller than `kestra.executor.for-each-item.max-indexed-size` (1GB by default)."
+    )
+    @PluginProperty
+    private Integer maxConcurrency;
+
     @Override
     public List<SubflowExecution<?>> createSubflowExecutions(
         RunContext runContext,
@@ -191,48 +206,31 @@ public class ForEachItem extends Task implements ExecutableTask<ForEachItem.Outp
         }
 
         try {
+            if (this.isWindowed()) {
+                // only the offsets of the batches are computed, the batches are written by window. The executor scans
+                // the items once while holding the execution: it reads less than the eager split below, which also
+                // writes all the batches, but the size of the file is bounded as the execution is blocked meanwhile
+                StorageService.SplitIndex index = StorageService.splitIndex(runContext, this.batch, URI.create(renderedUri), maxIndexedSize(runContext));
+                var outputs = Output.builder()
+                    .numberOfBatches(index.size())
+                    .batchIndex(index.uri())
+                    .submittedBatches(0)
+                    .build();
+
+                return this.createWindowSubflowExecutions(runContext, flowExecutorInterface, currentFlow, currentExecution, currentTaskRun.withOutputs(outputs.toMap()));
+            }
+
             List<URI> splits = StorageService.split(runContext, this.batch, URI.create(renderedUri));
 
             AtomicInteger currentIteration = new AtomicInteger(1);
 
+            // these are special outputs to be able to compute iteration map of the parent taskrun
+            var outputs = Output.builder().numberOfBatches(splits.size()).build();
+            TaskRun taskRun = currentTaskRun.withOutputs(outputs.toMap());
+
             return splits.stream()
                 .<SubflowExecution<?>>map(throwFunction(
-                    split -> {
-                        int iteration = currentIteration.getAndIncrement();
-                        // these are special variable that can be passed to the subflow
-                        Map<String, Object> itemsVariable = Map.of("taskrun",
-                            Map.of("items", split.toString(), "iteration", iteration));
-                        Map<String, Object> inputs = new HashMap<>();
-                        if (this.inputs != null) {
-                            inputs.putAll(runContext.render(this.inputs, itemsVariable));
-                        }
-
-                        List<Label> labels = new ArrayList<>();
-                        if (this.inheritLabels && currentExecution.getLabels() != null && !currentExecution.getLabels().isEmpty()) {
-                            labels.addAll(currentExecution.getLabels());
-                        }
-
-                        if (this.labels != null) {
-                            for (Map.Entry<String, String> entry: this.labels.entrySet()) {
-                                labels.add(new Label(entry.getKey(), runContext.render(entry.getValue())));
-                            }
-                        }
-
-                        // these are special outputs to be able to compute iteration map of the parent taskrun
-                        var outputs = Output.builder().numberOfBatches(splits.size()).build();
-                        return ExecutableUtils.subflowExecution(
-                            runContext,
-                            flowExecutorInterface,
-                            currentExecution,
-                            currentFlow,
-                            this,
-                            currentTaskRun
-                                .withOutputs(outputs.toMap())
-                                .withIteration(iteration),
-                            inputs,
-                            labels
-                        );
-                    }
+                    split -> this.createSubflowExecution(runContext, flowExecutorInterface, currentFlow, currentExecution, taskRun, split, currentIteration.getAndIncrement())
                 ))
                 .toList();
         } catch (IOException e) {
@@ -241,6 +239,147 @@ public class ForEachItem extends Task implements ExecutableTask<ForEachItem.Outp
         }
     }
 
+    @Override
+    public List<SubflowExecution<?>> createNextSubflowExecutions(
+        RunContext runContext,
+        FlowExecutorInterface flowExecutorInterface,
+        Flow currentFlow,
+        Execution currentExecution,
+        TaskRun currentTaskRun
+    ) throws InternalException {
+        if (!this.hasNextSubflowExecutions(currentTaskRun)) {
+            return Collections.emptyList();
+        }
+
+        try {
+            return this.createWindowSubflowExecutions(runContext, flowExecutorInterface, currentFlow, currentExecution, currentTaskRun);
+        } catch (IOException e) {
+            runContext.logger().error(e.getMessage(), e);
+            throw new InternalException(e);
+        }
+    }
+
+    @Override
+    public boolean hasNextSubflowExecutions(TaskRun currentTaskRun) {
+        return this.isWindowed() &&
+            currentTaskRun.getOutputs() != null &&
+            currentTaskRun.getOutputs().get("batchIndex") != null &&
+            this.nextWindowSize(currentTaskRun.getOutputs()) > 0;
+    }
+
+    /**
+     * The subflow executions are submitted by window only if we wait for them, and if the batches are contiguous ranges
+     * of the items file.
+     */
+    private boolean isWindowed() {
+        return this.maxConcurrency != null && this.wait && this.batch.getPartitions() == null;
+    }
+
+    /**
+     * The maximum size of the items file indexed by the executor, from <code>kestra.executor.for-each-item.max-indexed-size</code>.
+     */
+    private static long maxIndexedSize(RunContext runContext) {
+        String maxIndexedSize = runContext.getApplicationContext()
+            .getProperty("kestra.executor.for-each-item.max-indexed-size", String.class)
+            .orElse(DEFAULT_MAX_INDEXED_SIZE);
+
+        return new ReadableBytesTypeConverter().convert(maxIndexedSize, Number.class)
+            .orElseThrow(() -> new IllegalArgumentException("Invalid size with value '" + maxIndexedSize + "'"))
+            .longValue();
+    }
+
+    /**
+     * The number of batches of the next window: the remaining batches, up to the free slots of the running ones.
+     */
+    @SuppressWarnings("unchecked")
+    private int nextWindowSize(Map<String, Object> outputs) {
+        int numberOfBatches = (Integer) outputs.get("numberOfBatches");
+        int submittedBatches = (Integer) outputs.get("submittedBatches");
+
+        int terminatedBatches = 0;
+        Map<String, Integer> iterations = (Map<String, Integer>) outputs.get("iterations");
+        if (iterations != null) {
+            terminatedBatches = iterations.getOrDefault(State.Type.SUCCESS.toString(), 0) +
+                iterations.getOrDefault(State.Type.FAILED.toString(), 0) +
+                iterations.getOrDefault(State.Type.KILLED.toString(), 0) +
+                iterations.getOrDefault(State.Type.WARNING.toString(), 0) +
+                iterations.getOrDefault(State.Type.CANCELLED.toString(), 0);
+        }
+
+        return Math.min(this.maxConcurrency - (submittedBatches - terminatedBatches), numberOfBatches - submittedBatches);
+    }
+
+    private List<SubflowExecution<?>> createWindowSubflowExecutions(
+        RunContext runContext,
+        FlowExecutorInterface flowExecutorInterface,
+        Flow currentFlow,
+        Execution currentExecution,
+        TaskRun currentTaskRun
+    ) throws InternalException, IOException {
+        Map<String, Object> outputs = currentTaskRun.getOutputs();
+        int numberOfBatches = (Integer) outputs.get("numberOfBatches");
+        int submittedBatches = (Integer) outputs.get("submittedBatches");
+
+        int count = this.nextWindowSize(outputs);
+        if (count <= 0) {
+            return Collections.emptyList();
+        }
+
+        StorageService.SplitIndex index = new StorageService.SplitIndex(URI.create((String) outputs.get("batchIndex")), numberOfBatches);
+        List<URI> splits = StorageService.readSplits(runContext, this.batch, URI.create(runContext.render(this.items)), index, submittedBatches, count);
+
+        Map<String, Object> windowOutputs = new HashMap<>(outputs);
+        windowOutputs.put("submittedBatches", submittedBatches + count);
+        TaskRun taskRun = currentTaskRun.withOutputs(windowOutputs);
+
+        List<SubflowExecution<?>> subflowExecutions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            subflowExecutions.add(this.createSubflowExecution(runContext, flowExecutorInterface, currentFlow, currentExecution, taskRun, splits.get(i), submittedBatches + i + 1));
+        }
+
+        return subflowExecutions;
+    }
+
+    private SubflowExecution<?> createSubflowExecution(
+        RunContext runContext,
+        FlowExecutorInterface flowExecutorInterface,
+        Flow currentFlow,
+        Execution currentExecution,
+        TaskRun currentTaskRun,
+        URI split,
+        int iteration
+    ) throws InternalException {
+        // these are special variable that can be passed to the subflow
+        Map<String, Object> itemsVariable = Map.of("taskrun",
+            Map.of("items", split.toString(), "iteration", iteration));
+        Map<String, Object> inputs = new HashMap<>();
+        if (this.inputs != null) {
+            inputs.putAll(runContext.render(this.inputs, itemsVariable));
+        }
+
+        List<Label> labels = new ArrayList<>();
+        if (this.inheritLabels && currentExecution.getLabels() != null && !currentExecution.getLabels().isEmpty()) {
+            labels.addAll(currentExecution.getLabels());
+        }
+
+        if (this.labels != null) {
+            for (Map.Entry<String, String> entry: this.labels.entrySet()) {
+                labels.add(new Label(entry.getKey(), runContext.render(entry.getValue())));
+            }
+        }
+
+        return ExecutableUtils.subflowExecution(
+            runContext,
+            flowExecutorInterface,
+            currentExecution,
+            currentFlow,
+            this,
+            currentTaskRun.withIteration(iteration),
+            inputs,
+            labels
+        );
+    }
+
     @Override
     public Optional<SubflowExecutionResult> createSubflowExecutionResult(
         RunContext runContext,
@@ -292,5 +431,17 @@ public class ForEachItem extends Task implements ExecutableTask<ForEachItem.Outp
             title = "The number of batches."
         )
         private final Integer numberOfBatches;
+
+        @Schema(
+            title = "The URI of the offsets of the batches on the items file.",
+            description = "Only set when `maxConcurrency` is set."
+        )
+        private final URI batchIndex;
+
+        @Schema(
+            title = "The number of batches for which a subflow execution has been submitted.",
+            description = "Only set when `maxConcurrency` is set."
+        )
+        private final Integer submittedBatches;
     }
 }
@@ -3,6 +3,7 @@ package io.kestra.core.utils;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.*;
 
 import jakarta.inject.Inject;
@@ -71,6 +72,43 @@ public class ExecutorsUtils {
         );
     }
 
+    /**
+     * Virtual threads are only available from Java 21, while we still target Java 17, so they are created by reflection.
+     */
+    public static boolean isVirtualThreadSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    public ThreadFactory virtualThreadFactory(String name) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, name + "_", 0L);
+
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads are not supported by this JVM, Java 21 or later is required", e);
+        }
+    }
+
+    public ExecutorService virtualThreadPerTaskExecutor(String name) {
+        try {
+            Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+
+            return this.wrap(
+                name,
+                (ExecutorService) method.invoke(null, this.virtualThreadFactory(name))
+            );
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads are not supported by this JVM, Java 21 or later is required", e);
+        }
+    }
+
     private ExecutorService wrap(String name, ExecutorService executorService) {
         return ExecutorServiceMetrics.monitor(
             meterRegistry,
@@ -1,5 +1,6 @@
 package io.kestra.core.models.executions;
 
+import io.kestra.core.exceptions.InternalException;
 import io.kestra.core.models.Label;
 import io.kestra.core.utils.IdUtils;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,7 @@ import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ExecutionTest {
     private static final TaskRun.TaskRunBuilder TASK_RUN = TaskRun.builder()
@@ -161,4 +163,60 @@ class ExecutionTest {
         assertThat(execution.getLabels().size(), is(1));
         assertThat(execution.getLabels().get(0), is(new Label("test", "test-value")));
     }
+
+    @Test
+    void taskRunIndex() throws InternalException {
+        TaskRun parent = TaskRun.builder().id("parent").taskId("each").state(new State()).build();
+        TaskRun first = TaskRun.builder().id("first").taskId("child").parentTaskRunId("parent").value("a").state(new State()).build();
+        TaskRun second = TaskRun.builder().id("second").taskId("child").parentTaskRunId("parent").value("b").state(new State()).build();
+
+        Execution execution = Execution.builder()
+            .id(IdUtils.create())
+            .taskRunList(List.of(parent, first, second))
+            .state(new State())
+            .build();
+
+        assertThat(execution.findTaskRunByTaskRunId("second"), is(second));
+        assertThat(execution.findTaskRunsByTaskId("child"), is(List.of(first, second)));
+        assertThat(execution.findTaskRunByTaskIdAndValue("child", List.of("b")), is(second));
+        assertThat(execution.findChilds(second), is(List.of(parent)));
+        assertThrows(InternalException.class, () -> execution.findTaskRunByTaskRunId("unknown"));
+
+        TaskRun updated = second.withState(State.Type.RUNNING);
+        Execution newExecution = execution.withTaskRun(updated);
+
+        assertThat(newExecution.getTaskRunList(), is(List.of(parent, first, updated)));
+        assertThat(newExecution.findTaskRunByTaskRunId("second").getState().getCurrent(), is(State.Type.RUNNING));
+        assertThat(newExecution.findTaskRunsByTaskId("child"), is(List.of(first, updated)));
+
+        // the original execution is unchanged
+        assertThat(execution.findTaskRunByTaskRunId("second").getState().getCurrent(), is(State.Type.CREATED));
+    }
+
+    @Test
+    void outputs() throws InternalException {
+        TaskRun parent = TaskRun.builder().id("parent").taskId("each").value("a").state(new State()).build();
+        TaskRun first = TaskRun.builder().id("first").taskId("child").parentTaskRunId("parent").state(new State()).outputs(Map.of("value", 1)).build();
+        TaskRun second = TaskRun.builder().id("second").taskId("other").parentTaskRunId("parent").state(new State()).build();
+
+        Execution execution = Execution.builder()
+            .id(IdUtils.create())
+            .taskRunList(List.of(parent, first, second))
+            .state(new State())
+            .build();
+
+        assertThat(execution.outputs(), is(Map.of("child", Map.of("a", Map.of("value", 1)))));
+
+        // outputs are updated incrementally
+        Execution newExecution = execution.withTaskRun(second.withOutputs(Map.of("value", 2)));
+        assertThat(newExecution.outputs(), is(Map.of(
+            "child", Map.of("a", Map.of("value", 1)),
+            "other", Map.of("a", Map.of("value", 2))
+        )));
+
+        // and are the same as a full computation
+        Execution copy = execution.toBuilder().taskRunList(List.copyOf(newExecution.getTaskRunList())).build();
+        assertThat(copy.outputs(), is(newExecution.outputs()));
+        assertThat(execution.outputs(), is(Map.of("child", Map.of("a", Map.of("value", 1)))));
+    }
 }
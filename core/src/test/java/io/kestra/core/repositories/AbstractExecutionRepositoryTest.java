@@ -26,6 +26,7 @@ import java.util.*;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
 
@@ -147,6 +148,91 @@ public abstract class AbstractExecutionRepositoryTest {
         assertThat(executions.getTotal(), is(0L));
     }
 
+    @Test
+    protected void findCursor() {
+        inject();
+
+        Pageable pageable = Pageable.from(1, 10, Sort.of(Sort.Order.desc("start_date")));
+
+        ArrayListTotal<Execution> executions = executionRepository.find(CursorPageable.of(pageable, null, 5),  null, null, null, null, null, null, null, null, null);
+        assertThat(executions.getTotal(), is(5L));
+        assertThat(executions.isTotalCapped(), is(true));
+        assertThat(executions.size(), is(10));
+        assertThat(executions.getNext(), notNullValue());
+
+        Set<String> ids = new HashSet<>();
+        executions.forEach(execution -> ids.add(execution.getId()));
+
+        do {
+            executions = executionRepository.find(CursorPageable.of(pageable, executions.getNext(), null),  null, null, null, null, null, null, null, null, null);
+            assertThat(executions.getTotal(), is(28L));
+            assertThat(executions.isTotalCapped(), is(false));
+            executions.forEach(execution -> ids.add(execution.getId()));
+        } while (executions.getNext() != null);
+
+        assertThat(executions.size(), is(8));
+        assertThat(ids.size(), is(28));
+    }
+
+    @Test
+    protected void findCursorMixedSort() {
+        inject();
+
+        Pageable pageable = Pageable.from(1, 6, Sort.of(Sort.Order.asc("flow_id"), Sort.Order.desc("start_date")));
+
+        List<Execution> all = new ArrayList<>();
+        String next = null;
+        do {
+            ArrayListTotal<Execution> executions = executionRepository.find(CursorPageable.of(pageable, next, 100),  null, null, null, null, null, null, null, null, null);
+            assertThat(executions.getTotal(), is(28L));
+            assertThat(executions.isTotalCapped(), is(false));
+            all.addAll(executions);
+            next = executions.getNext();
+        } while (next != null);
+
+        assertThat(all.size(), is(28));
+        assertThat(all.stream().map(Execution::getId).distinct().count(), is(28L));
+
+        for (int i = 1; i < all.size(); i++) {
+            Execution previous = all.get(i - 1);
+            Execution current = all.get(i);
+
+            assertThat(previous.getFlowId().compareTo(current.getFlowId()), lessThanOrEqualTo(0));
+            if (previous.getFlowId().equals(current.getFlowId())) {
+                assertThat(previous.getState().getStartDate().truncatedTo(ChronoUnit.MILLIS).isBefore(current.getState().getStartDate().truncatedTo(ChronoUnit.MILLIS)), is(false));
+            }
+        }
+    }
+
+    @Test
+    protected void findCursorNullableSort() {
+        inject();
+
+        // the running executions have no end date
+        Pageable pageable = Pageable.from(1, 10, Sort.of(Sort.Order.desc("end_date")));
+
+        ArrayListTotal<Execution> executions = executionRepository.find(CursorPageable.of(pageable, null, 100),  null, null, null, null, null, null, null, null, null);
+        assertThat(executions.getTotal(), is(28L));
+        assertThat(executions.size(), is(10));
+        assertThat(executions.getNext(), nullValue());
+
+        String cursor = executionRepository.find(CursorPageable.of(Pageable.from(1, 10, Sort.of(Sort.Order.desc("start_date"))), null, null),  null, null, null, null, null, null, null, null, null).getNext();
+        assertThrows(IllegalArgumentException.class, () -> executionRepository.find(CursorPageable.of(pageable, cursor, null),  null, null, null, null, null, null, null, null, null));
+    }
+
+    @Test
+    protected void findInvalidCursor() {
+        inject();
+
+        Pageable pageable = Pageable.from(1, 10, Sort.of(Sort.Order.desc("start_date")));
+
+        assertThrows(IllegalArgumentException.class, () -> executionRepository.find(CursorPageable.of(pageable, "invalid", null),  null, null, null, null, null, null, null, null, null));
+
+        // a cursor of another sort
+        String cursor = executionRepository.find(CursorPageable.of(Pageable.from(1, 10, Sort.of(Sort.Order.asc("flow_id"), Sort.Order.desc("start_date"))), null, null),  null, null, null, null, null, null, null, null, null).getNext();
+        assertThrows(IllegalArgumentException.class, () -> executionRepository.find(CursorPageable.of(pageable, cursor, null),  null, null, null, null, null, null, null, null, null));
+    }
+
     @Test
     protected void findTriggerExecutionId() {
         String executionTriggerId = IdUtils.create();
@@ -175,6 +261,50 @@ public abstract class AbstractExecutionRepositoryTest {
         assertThat(executions.getTotal(), is(8L));
     }
 
+    @Test
+    protected void findFlowable() {
+        inject();
+
+        List<Execution> executions = executionRepository.find(null, null, null, null, null, null, null, null, null)
+            .toList()
+            .blockingGet();
+        assertThat(executions.size(), is(28));
+        assertThat(executions.stream().allMatch(execution -> execution.getTaskRunList() != null), is(true));
+
+        executions = executionRepository.find(null, null, null, null, null, null, List.of(State.Type.RUNNING, State.Type.FAILED), null, null, false)
+            .toList()
+            .blockingGet();
+        assertThat(executions.size(), is(8));
+
+        // cancelled before the end of the cursor
+        executions = executionRepository.find(null, null, null, null, null, null, null, null, null)
+            .take(5)
+            .toList()
+            .blockingGet();
+        assertThat(executions.size(), is(5));
+    }
+
+    @Test
+    protected void findAfter() {
+        inject();
+
+        List<Execution> executions = executionRepository.findAfter(null, null, null, null, null, null, null, null, null, null, 10);
+        assertThat(executions.size(), is(10));
+
+        Set<String> ids = new HashSet<>();
+        String afterId = null;
+        do {
+            executions = executionRepository.findAfter(null, null, null, null, null, null, null, null, null, afterId, 10);
+            executions.forEach(execution -> ids.add(execution.getId()));
+            afterId = executions.isEmpty() ? null : executions.get(executions.size() - 1).getId();
+        } while (executions.size() == 10);
+        assertThat(ids.size(), is(28));
+
+        executions = executionRepository.findAfter(null, null, null, null, null, null, List.of(State.Type.RUNNING, State.Type.FAILED), null, null, null, 10);
+        assertThat(executions.size(), is(8));
+        assertThat(executions.stream().map(Execution::getId).sorted().toList(), is(executions.stream().map(Execution::getId).toList()));
+    }
+
     @Test
     protected void findTaskRun() {
         inject();
@@ -214,6 +344,18 @@ public abstract class AbstractExecutionRepositoryTest {
         assertThat(full.isPresent(), is(false));
     }
 
+    @Test
+    protected void purgeAll() {
+        executionRepository.save(ExecutionFixture.EXECUTION_1);
+        executionRepository.save(ExecutionFixture.EXECUTION_2);
+
+        Integer count = executionRepository.purge(List.of(ExecutionFixture.EXECUTION_1, ExecutionFixture.EXECUTION_2));
+        assertThat(count, is(2));
+
+        assertThat(executionRepository.findById(null, ExecutionFixture.EXECUTION_1.getId()).isPresent(), is(false));
+        assertThat(executionRepository.findById(null, ExecutionFixture.EXECUTION_2.getId()).isPresent(), is(false));
+    }
+
     @Test
     protected void delete() {
         executionRepository.save(ExecutionFixture.EXECUTION_1);
@@ -227,6 +369,19 @@ public abstract class AbstractExecutionRepositoryTest {
         assertThat(full.isPresent(), is(false));
     }
 
+    @Test
+    protected void deleteAll() {
+        executionRepository.save(ExecutionFixture.EXECUTION_1);
+        executionRepository.save(ExecutionFixture.EXECUTION_2);
+
+        List<Execution> deleted = executionRepository.deleteAll(List.of(ExecutionFixture.EXECUTION_1, ExecutionFixture.EXECUTION_2));
+        assertThat(deleted.size(), is(2));
+        assertThat(deleted.get(0).isDeleted(), is(true));
+
+        assertThat(executionRepository.findById(null, ExecutionFixture.EXECUTION_1.getId()).isPresent(), is(false));
+        assertThat(executionRepository.findById(null, ExecutionFixture.EXECUTION_2.getId()).isPresent(), is(false));
+    }
+
     @Test
     protected void mappingConflict() {
         executionRepository.save(ExecutionFixture.EXECUTION_2);
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.event.Level;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -20,7 +21,7 @@ public abstract class AbstractLogRepositoryTest {
     @Inject
     protected LogRepositoryInterface logRepository;
 
-    private static LogEntry.LogEntryBuilder logEntry(Level level) {
+    protected static LogEntry.LogEntryBuilder logEntry(Level level) {
         return LogEntry.builder()
             .flowId(IdUtils.create())
             .namespace("io.kestra.unittest")
@@ -126,4 +127,32 @@ public abstract class AbstractLogRepositoryTest {
 
         assertThat(find.size(), is(0));
     }
+
+    @Test
+    void streamByExecutionId() {
+        String executionId = IdUtils.create();
+        LogEntry.LogEntryBuilder builder = logEntry(Level.INFO).executionId(executionId);
+
+        for (int i = 0; i < 150; i++) {
+            logRepository.save(builder.build());
+        }
+
+        LogEntry debug = logRepository.save(logEntry(Level.DEBUG).executionId(executionId).taskId("taskId2").build());
+
+        List<LogEntry> list = new ArrayList<>();
+        logRepository.streamByExecutionId(null, executionId, null, null, null, null, list::add);
+        assertThat(list.size(), is(151));
+
+        list = new ArrayList<>();
+        logRepository.streamByExecutionId(null, executionId, null, null, null, Level.INFO, list::add);
+        assertThat(list.size(), is(150));
+
+        list = new ArrayList<>();
+        logRepository.streamByExecutionId(null, executionId, debug.getTaskId(), null, null, null, list::add);
+        assertThat(list.size(), is(1));
+
+        list = new ArrayList<>();
+        logRepository.streamByExecutionId(null, executionId, null, debug.getTaskRunId(), 0, null, list::add);
+        assertThat(list.size(), is(1));
+    }
 }
@@ -0,0 +1,50 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.utils.TestsUtils;
+import io.micronaut.context.annotation.Property;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Property(name = "kestra.logs.async.enabled", value = "true")
+class AsyncLogEmitterTest extends AbstractMemoryRunnerTest {
+    @Inject
+    @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED)
+    QueueInterface<LogEntry> workerTaskLogQueue;
+
+    @Inject
+    AsyncLogEmitter asyncLogEmitter;
+
+    @Test
+    void logs() throws TimeoutException {
+        List<LogEntry> logs = new CopyOnWriteArrayList<>();
+        workerTaskLogQueue.receive(either -> logs.add(either.getLeft()));
+
+        Execution execution = runnerUtils.runOne(null, "io.kestra.tests", "logs");
+
+        assertThat(execution.getTaskRunList(), hasSize(4));
+
+        LogEntry matchingLog = TestsUtils.awaitLog(logs, log -> Objects.equals(log.getTaskRunId(), execution.getTaskRunList().get(1).getId()));
+        assertThat(matchingLog, notNullValue());
+        assertThat(matchingLog.getLevel(), is(Level.WARN));
+        assertThat(matchingLog.getMessage(), is("second io.kestra.core.tasks.log.Log"));
+
+        matchingLog = TestsUtils.awaitLog(logs, log -> Objects.equals(log.getTaskRunId(), execution.getTaskRunList().get(2).getId()));
+        assertThat(matchingLog, notNullValue());
+        assertThat(matchingLog.getLevel(), is(Level.ERROR));
+        assertThat(matchingLog.getMessage(), is("third logs"));
+    }
+}
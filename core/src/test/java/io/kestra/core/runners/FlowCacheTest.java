@@ -0,0 +1,174 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.services.FlowListenersInterface;
+import io.kestra.core.tasks.debugs.Return;
+import io.kestra.core.tasks.flows.Template;
+import io.kestra.core.utils.IdUtils;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@MicronautTest
+class FlowCacheTest {
+    @Inject
+    MetricRegistry metricRegistry;
+
+    private FlowCache flowCache;
+
+    private BiConsumer<Flow, Flow> flowListener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void init() {
+        FlowListenersInterface flowListeners = mock(FlowListenersInterface.class);
+        this.flowCache = new FlowCache(metricRegistry, flowListeners, 100);
+
+        ArgumentCaptor<BiConsumer<Flow, Flow>> captor = ArgumentCaptor.forClass(BiConsumer.class);
+        verify(flowListeners).listen(captor.capture());
+        this.flowListener = captor.getValue();
+    }
+
+    @Test
+    void hit() {
+        Flow flow = flow(Return.builder().id("return").type(Return.class.getName()).format("test").build());
+        Flow resolved = flow.toBuilder().description("resolved").build();
+        Execution execution = execution(flow);
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger fallbacks = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            Flow result = flowCache.get(
+                execution,
+                () -> {
+                    loads.incrementAndGet();
+                    return flow;
+                },
+                f -> resolved,
+                f -> {
+                    fallbacks.incrementAndGet();
+                    return f;
+                }
+            );
+
+            assertThat(result, sameInstance(resolved));
+        }
+
+        assertThat(loads.get(), is(1));
+        assertThat(fallbacks.get(), is(0));
+    }
+
+    @Test
+    void invalidateOnFlowUpdate() {
+        Flow flow = flow(Return.builder().id("return").type(Return.class.getName()).format("test").build());
+        Execution execution = execution(flow);
+        AtomicInteger loads = new AtomicInteger();
+
+        flowCache.get(execution, () -> {
+            loads.incrementAndGet();
+            return flow;
+        }, f -> f, f -> f);
+
+        // another flow must not invalidate the entry
+        flowListener.accept(flow.toBuilder().id(IdUtils.create()).build(), null);
+        flowCache.get(execution, () -> {
+            loads.incrementAndGet();
+            return flow;
+        }, f -> f, f -> f);
+        assertThat(loads.get(), is(1));
+
+        // the same flow saved again
+        flowListener.accept(flow, flow);
+        flowCache.get(execution, () -> {
+            loads.incrementAndGet();
+            return flow;
+        }, f -> f, f -> f);
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    void templateBypass() {
+        Flow flow = flow(Template.builder().id("template").type(Template.class.getName()).namespace("io.kestra.tests").templateId("template").build());
+        Flow resolved = flow.toBuilder().description("resolved").build();
+        Execution execution = execution(flow);
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger fallbacks = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            Flow result = flowCache.get(
+                execution,
+                () -> {
+                    loads.incrementAndGet();
+                    return flow;
+                },
+                f -> {
+                    throw new IllegalStateException("flows with templates must not be resolved on load");
+                },
+                f -> {
+                    fallbacks.incrementAndGet();
+                    return resolved;
+                }
+            );
+
+            assertThat(result, sameInstance(resolved));
+        }
+
+        // the flow is loaded once, templates are injected on each call
+        assertThat(loads.get(), is(1));
+        assertThat(fallbacks.get(), is(3));
+    }
+
+    @Test
+    void loaderFailure() {
+        Flow flow = flow(Return.builder().id("return").type(Return.class.getName()).format("test").build());
+        Execution execution = execution(flow);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> flowCache.get(execution, () -> {
+            throw new IllegalStateException("Unable to find flow");
+        }, f -> f, f -> f));
+        assertThat(e.getMessage(), is("Unable to find flow"));
+
+        // nothing is cached on failure
+        AtomicInteger loads = new AtomicInteger();
+        flowCache.get(execution, () -> {
+            loads.incrementAndGet();
+            return flow;
+        }, f -> f, f -> f);
+        assertThat(loads.get(), is(1));
+    }
+
+    private static Flow flow(Task task) {
+        return Flow.builder()
+            .id(IdUtils.create())
+            .namespace("io.kestra.unittest")
+            .revision(1)
+            .tasks(Collections.singletonList(task))
+            .build();
+    }
+
+    private static Execution execution(Flow flow) {
+        return Execution.builder()
+            .id(IdUtils.create())
+            .namespace(flow.getNamespace())
+            .flowId(flow.getId())
+            .flowRevision(flow.getRevision())
+            .state(new State())
+            .build();
+    }
+}
@@ -70,9 +70,11 @@ abstract public class FlowListenersTest {
 
 
         flowRepository.create(first, first.generateSource(), taskDefaultService.injectDefaults(first));
+        Flow finalFirst = first;
         wait(ref, () -> {
             assertThat(count.get(), is(1));
             assertThat(flowListenersService.flows().size(), is(1));
+            assertThat(flowListenersService.findById(null, finalFirst.getNamespace(), finalFirst.getId()).isPresent(), is(true));
         });
 
         // create the same id than first, no additional flows
@@ -96,6 +98,7 @@ abstract public class FlowListenersTest {
         wait(ref, () -> {
             assertThat(count.get(), is(1));
             assertThat(flowListenersService.flows().size(), is(1));
+            assertThat(flowListenersService.findById(null, deleted.getNamespace(), deleted.getId()).isPresent(), is(false));
         });
 
         // restore must works
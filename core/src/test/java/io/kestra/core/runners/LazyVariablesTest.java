@@ -0,0 +1,35 @@
+package io.kestra.core.runners;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class LazyVariablesTest {
+    @Test
+    void lazy() {
+        AtomicInteger count = new AtomicInteger();
+
+        Map<String, Object> variables = LazyVariables.of(ImmutableMap.of(
+            "eager", "value",
+            "outputs", LazyVariables.lazy(() -> {
+                count.incrementAndGet();
+                return Map.of("task", "output");
+            })
+        ));
+
+        assertThat(variables.get("eager"), is("value"));
+        assertThat(variables.containsKey("outputs"), is(true));
+        assertThat(variables.size(), is(2));
+        assertThat(count.get(), is(0));
+
+        assertThat(variables.get("outputs"), is(Map.of("task", "output")));
+        assertThat(new HashMap<>(variables).get("outputs"), is(Map.of("task", "output")));
+        assertThat(count.get(), is(1));
+    }
+}
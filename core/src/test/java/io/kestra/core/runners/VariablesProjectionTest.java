@@ -0,0 +1,70 @@
+package io.kestra.core.runners;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class VariablesProjectionTest {
+    private static final Map<String, Object> VARIABLES = Map.of(
+        "flow", Map.of("id", "flow"),
+        "inputs", Map.of("first", "value", "second", "{{ outputs.third.value }}"),
+        "outputs", Map.of(
+            "first", Map.of("value", 1),
+            "second", Map.of("value", 2),
+            "third", Map.of("value", 3)
+        ),
+        "envs", Map.of("env", "value")
+    );
+
+    private final VariablesProjection projection = new VariablesProjection(true);
+
+    @Test
+    void attributes() {
+        Optional<Map<String, Object>> projected = projection.project(VARIABLES, Map.of(
+            "format", "{{ outputs.first.value }} {{ outputs['second'].value | default(1) }}",
+            "list", List.of("{{ inputs.first }}")
+        ));
+
+        assertThat(projected.isPresent(), is(true));
+        assertThat(projected.get(), is(Map.of(
+            "flow", Map.of("id", "flow"),
+            "inputs", Map.of("first", "value"),
+            "outputs", Map.of(
+                "first", Map.of("value", 1),
+                "second", Map.of("value", 2)
+            )
+        )));
+    }
+
+    @Test
+    void recursive() {
+        Optional<Map<String, Object>> projected = projection.project(VARIABLES, Map.of(
+            "format", "{{ inputs.second }}"
+        ));
+
+        assertThat(projected.isPresent(), is(true));
+        assertThat(projected.get().get("outputs"), is(Map.of("third", Map.of("value", 3))));
+    }
+
+    @Test
+    void whole() {
+        Optional<Map<String, Object>> projected = projection.project(VARIABLES, Map.of(
+            "format", "{% for output in outputs %}{{ output }}{% endfor %}"
+        ));
+
+        assertThat(projected.isPresent(), is(true));
+        assertThat(projected.get().get("outputs"), is(VARIABLES.get("outputs")));
+        assertThat(projected.get().containsKey("envs"), is(false));
+    }
+
+    @Test
+    void inconclusive() {
+        assertThat(projection.project(VARIABLES, Map.of("format", "{{ \"#{outputs.first.value}\" }}")).isPresent(), is(false));
+        assertThat(projection.project(VARIABLES, Map.of("format", "{{ _context }}")).isPresent(), is(false));
+    }
+}
@@ -0,0 +1,50 @@
+package io.kestra.core.runners.pebble;
+
+import com.google.common.collect.ImmutableMap;
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.micronaut.context.annotation.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Property(name = "kestra.variables.compiled-templates", value = "true")
+class CompiledPebbleVariableRendererTest extends PebbleVariableRendererTest {
+    @Test
+    void variable() throws IllegalVariableEvaluationException {
+        Map<String, Object> vars = Map.of(
+            "inputs", Map.of("name", "kestra", "nested", Map.of("int", 1)),
+            "list", List.of(1, 2)
+        );
+
+        assertThat(variableRenderer.render("{{ inputs.name }}", vars), is("kestra"));
+        assertThat(variableRenderer.render("{{inputs.nested}}", vars), is("{\"int\":1}"));
+        assertThat(variableRenderer.render("{{ inputs.nested.int }}", vars), is("1"));
+        assertThat(variableRenderer.render("{{ list }}", vars), is("[1,2]"));
+
+        // not a single variable or a missing one: rendered by Pebble
+        assertThat(variableRenderer.render("{{ list[1] }}", vars), is("2"));
+        assertThrows(IllegalVariableEvaluationException.class, () -> variableRenderer.render("{{ inputs.missing }}", vars));
+    }
+
+    @Test
+    void delimiters() throws IllegalVariableEvaluationException {
+        ImmutableMap<String, Object> vars = ImmutableMap.of(
+            "json", Map.of("key", "{value}"),
+            "text", "{ not a template %}"
+        );
+
+        assertThat(variableRenderer.render("{{ json }}", vars), is("{\"key\":\"{value}\"}"));
+        assertThat(variableRenderer.render("{{ text }}", vars), is("{ not a template %}"));
+
+        assertThat(CompiledTemplate.hasDelimiters("{\"key\":\"{value}\"}"), is(false));
+        assertThat(CompiledTemplate.hasDelimiters("trailing {"), is(false));
+        assertThat(CompiledTemplate.hasDelimiters("{{ var }}"), is(true));
+        assertThat(CompiledTemplate.hasDelimiters("{% if true %}"), is(true));
+        assertThat(CompiledTemplate.hasDelimiters("{# comment #}"), is(true));
+    }
+}
@@ -0,0 +1,117 @@
+package io.kestra.core.schedulers;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+class TriggerEvaluationQueueTest {
+    private static final Instant NOW = Instant.parse("2023-11-01T10:00:00Z");
+
+    @Test
+    void earliestDueFirst() {
+        TriggerEvaluationQueue queue = new TriggerEvaluationQueue();
+
+        queue.schedule("late", NOW.plusSeconds(30));
+        queue.schedule("second", NOW.minusSeconds(5));
+        queue.schedule("first", NOW.minusSeconds(10));
+        queue.schedule("now", NOW);
+
+        assertThat(queue.due(NOW), is(List.of("first", "second", "now")));
+        assertThat(queue.due(NOW.plusSeconds(29)), empty());
+        assertThat(queue.due(NOW.plusSeconds(30)), is(List.of("late")));
+    }
+
+    @Test
+    void earlierScheduleWins() {
+        TriggerEvaluationQueue queue = new TriggerEvaluationQueue();
+
+        queue.schedule("trigger", NOW.plusSeconds(30));
+        // woken up, evaluated on the next loop
+        queue.schedule("trigger", NOW);
+        // a later date is ignored while an earlier evaluation is pending
+        queue.schedule("trigger", NOW.plusSeconds(60));
+
+        assertThat(queue.due(NOW), is(List.of("trigger")));
+        // the outdated entries are skipped
+        assertThat(queue.due(NOW.plusSeconds(60)), empty());
+    }
+
+    @Test
+    void reinsertionAfterEvaluation() {
+        TriggerEvaluationQueue queue = new TriggerEvaluationQueue();
+
+        queue.schedule("trigger", NOW);
+        assertThat(queue.due(NOW), is(List.of("trigger")));
+
+        // only due once until scheduled again
+        assertThat(queue.due(NOW.plusSeconds(10)), empty());
+
+        queue.schedule("trigger", NOW.plusSeconds(20));
+        assertThat(queue.due(NOW.plusSeconds(10)), empty());
+        assertThat(queue.due(NOW.plusSeconds(20)), is(List.of("trigger")));
+    }
+
+    @Test
+    void removal() {
+        TriggerEvaluationQueue queue = new TriggerEvaluationQueue();
+
+        queue.schedule("deleted", NOW);
+        queue.schedule("updated", NOW.plusSeconds(30));
+        queue.schedule("other", NOW);
+
+        // flow deleted
+        queue.remove("deleted");
+
+        // flow updated, the triggers are removed then evaluated as new ones
+        queue.remove("updated");
+        queue.schedule("updated", NOW);
+
+        assertThat(queue.due(NOW), containsInAnyOrder("other", "updated"));
+        assertThat(queue.due(NOW.plusSeconds(30)), empty());
+    }
+
+    @Test
+    void nextEvaluationDate() {
+        ZonedDateTime now = ZonedDateTime.parse("2023-11-01T10:00:00Z");
+
+        // polling trigger, after its interval from the last evaluation
+        assertThat(
+            TriggerEvaluationQueue.nextEvaluationDate(Duration.ofSeconds(10), now.minusSeconds(2), null, now),
+            is(now.plusSeconds(9).toInstant())
+        );
+
+        // Schedule, at its next date
+        assertThat(
+            TriggerEvaluationQueue.nextEvaluationDate(null, null, now.plusSeconds(20), now),
+            is(now.plusSeconds(20).toInstant())
+        );
+
+        // capped to the maximum delay
+        assertThat(
+            TriggerEvaluationQueue.nextEvaluationDate(null, null, now.plusHours(1), now),
+            is(now.plus(TriggerEvaluationQueue.MAX_EVALUATION_DELAY).toInstant())
+        );
+        assertThat(
+            TriggerEvaluationQueue.nextEvaluationDate(Duration.ofHours(1), now, null, now),
+            is(now.plus(TriggerEvaluationQueue.MAX_EVALUATION_DELAY).toInstant())
+        );
+
+        // blocked or never evaluated, on the next loop
+        assertThat(
+            TriggerEvaluationQueue.nextEvaluationDate(Duration.ofSeconds(10), null, null, now),
+            is(now.plusSeconds(1).toInstant())
+        );
+        assertThat(
+            TriggerEvaluationQueue.nextEvaluationDate(null, null, now.minusSeconds(10), now),
+            is(now.plusSeconds(1).toInstant())
+        );
+    }
+}
@@ -0,0 +1,81 @@
+package io.kestra.core.services;
+
+import io.kestra.core.models.conditions.Condition;
+import io.kestra.core.models.conditions.types.ExecutionFlowCondition;
+import io.kestra.core.models.conditions.types.ExecutionNamespaceCondition;
+import io.kestra.core.models.conditions.types.ExecutionStatusCondition;
+import io.kestra.core.models.conditions.types.VariableCondition;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.State;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+class FlowTriggerIndexTest {
+    @Test
+    void candidates() {
+        List<Flow> flows = List.of(
+            flow("byFlow",
+                ExecutionFlowCondition.builder().namespace("io.kestra.tests").flowId("parent").build(),
+                ExecutionStatusCondition.builder().in(List.of(State.Type.SUCCESS)).build()
+            ),
+            flow("byOtherFlow",
+                ExecutionFlowCondition.builder().namespace("io.kestra.tests").flowId("other").build()
+            ),
+            flow("byNamespace",
+                ExecutionNamespaceCondition.builder().namespace("io.kestra.tests").build()
+            ),
+            flow("byPrefix",
+                ExecutionNamespaceCondition.builder().namespace("io.kestra").prefix(true).build(),
+                ExecutionStatusCondition.builder().notIn(List.of(State.Type.FAILED)).build()
+            ),
+            flow("byOtherPrefix",
+                ExecutionNamespaceCondition.builder().namespace("io.other").prefix(true).build()
+            ),
+            flow("opaque",
+                VariableCondition.builder().expression("{{ true }}").build()
+            ),
+            Flow.builder().namespace("io.kestra.tests").id("noTrigger").revision(1).build()
+        );
+
+        FlowTriggerIndex index = new FlowTriggerIndex(flows, new DefaultFlowTriggerService());
+
+        assertThat(ids(index, execution(State.Type.SUCCESS)), contains("byFlow", "byNamespace", "byPrefix", "opaque"));
+        assertThat(ids(index, execution(State.Type.FAILED)), contains("byNamespace", "opaque"));
+    }
+
+    private static List<String> ids(FlowTriggerIndex index, Execution execution) {
+        return index.candidates(execution)
+            .stream()
+            .map(flowWithFlowTrigger -> flowWithFlowTrigger.getFlow().getId())
+            .toList();
+    }
+
+    private static Execution execution(State.Type state) {
+        return Execution.builder()
+            .id("execution")
+            .namespace("io.kestra.tests")
+            .flowId("parent")
+            .state(new State(state, new State()))
+            .build();
+    }
+
+    private static Flow flow(String id, Condition... conditions) {
+        return Flow.builder()
+            .namespace("io.kestra.tests")
+            .id(id)
+            .revision(1)
+            .triggers(List.of(
+                io.kestra.core.models.triggers.types.Flow.builder()
+                    .id("listen")
+                    .type(io.kestra.core.models.triggers.types.Flow.class.getName())
+                    .conditions(List.of(conditions))
+                    .build()
+            ))
+            .build();
+    }
+}
@@ -0,0 +1,122 @@
+package io.kestra.core.services;
+
+import com.google.common.io.CharStreams;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.storages.StorageSplitInterface;
+import io.kestra.core.tasks.flows.ForEachItem;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.Rethrow;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MicronautTest
+class StorageServiceTest {
+    @Inject
+    RunContextFactory runContextFactory;
+
+    @Inject
+    StorageInterface storageInterface;
+
+    @Test
+    void rows() throws Exception {
+        String content = content(1000, "\n");
+
+        assertSameSplits(ForEachItem.Batch.builder().rows(10).build(), content);
+        assertSameSplits(ForEachItem.Batch.builder().rows(7).build(), content);
+    }
+
+    @Test
+    void bytes() throws Exception {
+        String content = content(12288, "\n");
+
+        assertSameSplits(ForEachItem.Batch.builder().bytes("1KB").build(), content);
+        assertSameSplits(ForEachItem.Batch.builder().bytes("1000").build(), content);
+    }
+
+    @Test
+    void crlf() throws Exception {
+        String content = content(1000, "\r\n");
+
+        assertSameSplits(ForEachItem.Batch.builder().rows(10).build(), content);
+        assertSameSplits(ForEachItem.Batch.builder().bytes("1KB").build(), content);
+    }
+
+    @Test
+    void noTrailingNewline() throws Exception {
+        String content = StringUtils.removeEnd(content(1000, "\n"), "\n");
+
+        assertSameSplits(ForEachItem.Batch.builder().rows(10).build(), content);
+        assertSameSplits(ForEachItem.Batch.builder().rows(7).build(), content);
+        assertSameSplits(ForEachItem.Batch.builder().bytes("1KB").build(), content);
+    }
+
+    @Test
+    void maxSize() throws Exception {
+        RunContext runContext = runContextFactory.of();
+        URI uri = storageUpload(content(1000, "\n"));
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> StorageService.splitIndex(runContext, ForEachItem.Batch.builder().rows(10).build(), uri, 1024)
+        );
+    }
+
+    private void assertSameSplits(StorageSplitInterface storageSplitInterface, String content) throws Exception {
+        RunContext runContext = runContextFactory.of();
+        URI uri = storageUpload(content);
+
+        List<String> expected = read(StorageService.split(runContext, storageSplitInterface, uri));
+
+        StorageService.SplitIndex index = StorageService.splitIndex(runContext, storageSplitInterface, uri, Long.MAX_VALUE);
+        assertThat(index.size(), is(expected.size()));
+
+        // all the batches at once, then by windows of 3 batches
+        assertThat(read(StorageService.readSplits(runContext, storageSplitInterface, uri, index, 0, index.size())), is(expected));
+
+        List<String> windows = new ArrayList<>();
+        for (int start = 0; start < index.size(); start = start + 3) {
+            windows.addAll(read(StorageService.readSplits(runContext, storageSplitInterface, uri, index, start, Math.min(3, index.size() - start))));
+        }
+        assertThat(windows, is(expected));
+    }
+
+    private static String content(int count, String separator) {
+        return IntStream
+            .range(0, count)
+            .mapToObj(value -> StringUtils.leftPad(value + "", 20) + separator)
+            .collect(Collectors.joining());
+    }
+
+    private List<String> read(List<URI> uris) {
+        return uris
+            .stream()
+            .map(Rethrow.throwFunction(uri -> CharStreams.toString(new InputStreamReader(storageInterface.get(null, uri)))))
+            .toList();
+    }
+
+    private URI storageUpload(String content) throws IOException {
+        return storageInterface.put(
+            null,
+            URI.create("/file/storage/" + IdUtils.create() + ".txt"),
+            new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))
+        );
+    }
+}
@@ -77,6 +77,19 @@ public abstract class StorageTestSuite {
         assertThat(CharStreams.toString(new InputStreamReader(getScheme)), is(contentString));
     }
 
+    @Test
+    void getWithOffset() throws Exception {
+        String prefix = IdUtils.create();
+        String tenantId = IdUtils.create();
+
+        putFile(tenantId, "/" + prefix + "/storage/get.yml");
+        URI uri = new URI("/" + prefix + "/storage/get.yml");
+
+        assertThat(CharStreams.toString(new InputStreamReader(storageInterface.get(tenantId, uri, 3))), is(contentString.substring(3)));
+        assertThat(CharStreams.toString(new InputStreamReader(storageInterface.get(tenantId, uri, contentString.length()))), is(""));
+        assertThrows(FileNotFoundException.class, () -> storageInterface.get(tenantId, new URI("/" + prefix + "/storage/missing.yml"), 3));
+    }
+
     private void get(String tenantId, String prefix) throws Exception {
         putFile(tenantId, "/" + prefix + "/storage/get.yml");
         putFile(tenantId, "/" + prefix + "/storage/level2/2.yml");
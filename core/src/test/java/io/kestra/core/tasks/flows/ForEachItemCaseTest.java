@@ -21,9 +21,12 @@ import java.nio.file.Files;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -174,6 +177,51 @@ public class ForEachItemCaseTest {
         assertThat(triggered.get().getTaskRunList(), hasSize(1));
     }
 
+    public void forEachItemWindow() throws TimeoutException, InterruptedException, URISyntaxException, IOException {
+        CountDownLatch countDownLatch = new CountDownLatch(3);
+        Set<String> running = ConcurrentHashMap.newKeySet();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        executionQueue.receive(either -> {
+            Execution execution = either.getLeft();
+            if (execution.getFlowId().equals("for-each-item-subflow") && execution.getTrigger() != null && execution.getTrigger().getVariables().get("flowId").equals("for-each-item-window")) {
+                if (execution.getState().getCurrent().isTerminated()) {
+                    if (running.remove(execution.getId())) {
+                        countDownLatch.countDown();
+                    }
+                } else {
+                    running.add(execution.getId());
+                    maxRunning.accumulateAndGet(running.size(), Math::max);
+                }
+            }
+        });
+
+        URI file = storageUpload(10);
+        Map<String, Object> inputs = Map.of("file", file.toString());
+        Execution execution = runnerUtils.runOne(null, "io.kestra.tests", "for-each-item-window", null,
+            (flow, execution1) -> runnerUtils.typedInputs(flow, execution1, inputs),
+            Duration.ofSeconds(30));
+
+        // we should have triggered 3 subflows, one at a time
+        assertThat(countDownLatch.await(1, TimeUnit.MINUTES), is(true));
+        assertThat(maxRunning.get(), is(1));
+
+        // assert on the main flow execution
+        assertThat(execution.getTaskRunList(), hasSize(1));
+        assertThat(execution.getTaskRunList().get(0).getAttempts(), hasSize(1));
+        assertThat(execution.getTaskRunList().get(0).getAttempts().get(0).getState().getCurrent(), is(State.Type.SUCCESS));
+        assertThat(execution.getState().getCurrent(), is(State.Type.SUCCESS));
+        Map<String, Object> outputs = execution.getTaskRunList().get(0).getOutputs();
+        assertThat(outputs.get("numberOfBatches"), is(3));
+        assertThat(outputs.get("submittedBatches"), is(3));
+        assertThat(outputs.get("batchIndex"), notNullValue());
+        assertThat(outputs.get("iterations"), notNullValue());
+        Map<String, Integer> iterations = (Map<String, Integer>) outputs.get("iterations");
+        assertThat(iterations.get("CREATED"), is(0));
+        assertThat(iterations.get("RUNNING"), is(0));
+        assertThat(iterations.get("SUCCESS"), is(3));
+    }
+
     private URI storageUpload(int count) throws URISyntaxException, IOException {
         File tempFile = File.createTempFile("file", ".txt");
 
@@ -0,0 +1,17 @@
+package io.kestra.repository.h2;
+
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.jdbc.repository.AbstractJdbcExecutionTaskRunStorage;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+
+@Singleton
+@H2RepositoryEnabled
+@Requires(property = AbstractJdbcExecutionTaskRunStorage.ENABLED_PROPERTY, value = StringUtils.TRUE)
+public class H2ExecutionTaskRunStorage extends AbstractJdbcExecutionTaskRunStorage {
+    public H2ExecutionTaskRunStorage(ApplicationContext applicationContext) {
+        super(new H2Repository<>(TaskRun.class, applicationContext));
+    }
+}
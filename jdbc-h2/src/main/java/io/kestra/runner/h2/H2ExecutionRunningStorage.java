@@ -0,0 +1,22 @@
+package io.kestra.runner.h2;
+
+import io.kestra.core.runners.ExecutionRunning;
+import io.kestra.jdbc.runner.AbstractJdbcExecutionRunningStorage;
+import io.kestra.repository.h2.H2Repository;
+import io.micronaut.context.ApplicationContext;
+import jakarta.inject.Singleton;
+import org.jooq.Field;
+
+@Singleton
+@H2QueueEnabled
+public class H2ExecutionRunningStorage extends AbstractJdbcExecutionRunningStorage {
+    public H2ExecutionRunningStorage(ApplicationContext applicationContext) {
+        super(new H2Repository<>(ExecutionRunning.class, applicationContext), applicationContext);
+    }
+
+    @Override
+    protected Field<Object> value() {
+        // the value is stored as text on H2
+        return super.value().cast(String.class).coerce(Object.class);
+    }
+}
@@ -19,6 +19,7 @@ public class H2Queue<T> extends JdbcQueue<T> {
     protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, Integer offset) {
         var select = ctx.select(
                 AbstractJdbcRepository.field("value"),
+                AbstractJdbcRepository.field("value_bytes"),
                 AbstractJdbcRepository.field("offset")
             )
             .from(this.table)
@@ -46,6 +47,7 @@ public class H2Queue<T> extends JdbcQueue<T> {
     protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType) {
         var select =  ctx.select(
                 AbstractJdbcRepository.field("value"),
+                AbstractJdbcRepository.field("value_bytes"),
                 AbstractJdbcRepository.field("offset")
             )
             .from(this.table)
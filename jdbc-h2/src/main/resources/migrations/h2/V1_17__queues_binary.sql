@@ -0,0 +1,3 @@
+/* messages are stored on value_bytes when a binary codec is configured for their queue */
+ALTER TABLE queues ALTER COLUMN "value" SET NULL;
+ALTER TABLE queues ADD COLUMN IF NOT EXISTS "value_bytes" BLOB;
@@ -0,0 +1,24 @@
+package io.kestra.repository.h2;
+
+import io.kestra.jdbc.repository.AbstractJdbcExecutionRepositorySeparateTaskRunsTest;
+import org.junit.jupiter.api.Test;
+
+public class H2ExecutionRepositorySeparateTaskRunsTest extends AbstractJdbcExecutionRepositorySeparateTaskRunsTest {
+    @Test
+    @Override
+    protected void mappingConflict() {
+
+    }
+
+    @Test
+    @Override
+    protected void findTaskRun() {
+
+    }
+
+    @Test
+    @Override
+    protected void taskRunsDailyStatistics() {
+
+    }
+}
@@ -0,0 +1,10 @@
+package io.kestra.runner.h2;
+
+import io.kestra.jdbc.runner.JdbcQueueTest;
+import io.micronaut.context.annotation.Property;
+
+@Property(name = "kestra.jdbc.queues.codecs.flow", value = "SMILE")
+@Property(name = "kestra.jdbc.queues.compression-threshold", value = "512")
+class H2SmileQueueTest extends JdbcQueueTest {
+
+}
@@ -0,0 +1,17 @@
+package io.kestra.repository.mysql;
+
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.jdbc.repository.AbstractJdbcExecutionTaskRunStorage;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+
+@Singleton
+@MysqlRepositoryEnabled
+@Requires(property = AbstractJdbcExecutionTaskRunStorage.ENABLED_PROPERTY, value = StringUtils.TRUE)
+public class MysqlExecutionTaskRunStorage extends AbstractJdbcExecutionTaskRunStorage {
+    public MysqlExecutionTaskRunStorage(ApplicationContext applicationContext) {
+        super(new MysqlRepository<>(TaskRun.class, applicationContext));
+    }
+}
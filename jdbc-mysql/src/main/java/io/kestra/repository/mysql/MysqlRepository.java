@@ -38,7 +38,7 @@ public class MysqlRepository<T>  extends AbstractJdbcRepository<T> {
         return DSL.condition("MATCH (" + String.join(", ", fields) + ") AGAINST (? IN BOOLEAN MODE)", match);
     }
 
-    public <R extends Record, E> ArrayListTotal<E> fetchPage(DSLContext context, SelectConditionStep<R> select, Pageable pageable, RecordMapper<R, E> mapper) {
+    protected <R extends Record, E> ArrayListTotal<E> fetchOffsetPage(DSLContext context, SelectConditionStep<R> select, Pageable pageable, RecordMapper<R, E> mapper) {
         List<E> map = this.pageable(select, pageable)
             .fetch()
             .map(mapper);
@@ -56,4 +56,16 @@ public class MysqlRepository<T>  extends AbstractJdbcRepository<T> {
             DSL.field("WEEK({0}, 2)", Integer.class, timestampField)
         ).otherwise(DSL.field("WEEK({0}, 3)", Integer.class, timestampField));
     }
+
+    @Override
+    protected int fetchSize() {
+        // the MySQL driver only streams results row by row with this special value
+        return Integer.MIN_VALUE;
+    }
+
+    @Override
+    protected boolean isConnectionBusyWhileStreaming() {
+        // no other query can run on the connection until the streamed result is fully read
+        return true;
+    }
 }
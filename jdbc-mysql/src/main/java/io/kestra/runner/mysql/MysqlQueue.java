@@ -18,6 +18,7 @@ public class MysqlQueue<T> extends JdbcQueue<T> {
     protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, Integer offset) {
         var select = ctx.select(
                 AbstractJdbcRepository.field("value"),
+                AbstractJdbcRepository.field("value_bytes"),
                 AbstractJdbcRepository.field("offset")
             )
             .from(this.table)
@@ -47,6 +48,7 @@ public class MysqlQueue<T> extends JdbcQueue<T> {
         var select = ctx
             .select(
                 AbstractJdbcRepository.field("value"),
+                AbstractJdbcRepository.field("value_bytes"),
                 AbstractJdbcRepository.field("offset")
             )
             // force using the dedicated index, or it made a scan of the PK index
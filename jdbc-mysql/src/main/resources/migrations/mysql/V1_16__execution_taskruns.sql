@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS execution_taskruns (
+    `key` VARCHAR(250) NOT NULL PRIMARY KEY,
+    `value` JSON NOT NULL,
+    `execution_id` VARCHAR(150) GENERATED ALWAYS AS (value ->> '$.executionId') STORED NOT NULL,
+    `position` INT NOT NULL,
+    `hash` VARCHAR(32) NOT NULL,
+    INDEX ix_execution_id (execution_id, position)
+);
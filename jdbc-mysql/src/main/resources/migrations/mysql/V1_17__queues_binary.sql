@@ -0,0 +1,4 @@
+/* messages are stored on value_bytes when a binary codec is configured for their queue */
+ALTER TABLE queues
+    MODIFY `value` JSON NULL,
+    ADD COLUMN `value_bytes` LONGBLOB NULL;
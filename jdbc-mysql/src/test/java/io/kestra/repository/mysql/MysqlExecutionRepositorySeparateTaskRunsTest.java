@@ -0,0 +1,18 @@
+package io.kestra.repository.mysql;
+
+import io.kestra.jdbc.repository.AbstractJdbcExecutionRepositorySeparateTaskRunsTest;
+import org.junit.jupiter.api.Test;
+
+public class MysqlExecutionRepositorySeparateTaskRunsTest extends AbstractJdbcExecutionRepositorySeparateTaskRunsTest {
+    @Test
+    @Override
+    protected void findTaskRun() {
+
+    }
+
+    @Test
+    @Override
+    protected void taskRunsDailyStatistics() {
+
+    }
+}
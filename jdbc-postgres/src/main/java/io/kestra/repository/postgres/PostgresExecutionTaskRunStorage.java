@@ -0,0 +1,17 @@
+package io.kestra.repository.postgres;
+
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.jdbc.repository.AbstractJdbcExecutionTaskRunStorage;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+
+@Singleton
+@PostgresRepositoryEnabled
+@Requires(property = AbstractJdbcExecutionTaskRunStorage.ENABLED_PROPERTY, value = StringUtils.TRUE)
+public class PostgresExecutionTaskRunStorage extends AbstractJdbcExecutionTaskRunStorage {
+    public PostgresExecutionTaskRunStorage(ApplicationContext applicationContext) {
+        super(new PostgresRepository<>(TaskRun.class, applicationContext));
+    }
+}
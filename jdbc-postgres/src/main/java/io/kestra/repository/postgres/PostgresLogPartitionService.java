@@ -0,0 +1,201 @@
+package io.kestra.repository.postgres;
+
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Maintain the partitions of the time partitioned logs table: partitions are created ahead of time and the ones
+ * older than the retention are dropped, instead of deleting the logs row by row.
+ */
+@Singleton
+@PostgresRepositoryEnabled
+@Requires(property = PostgresLogPartitionService.ENABLED_PROPERTY, value = StringUtils.TRUE)
+@Slf4j
+public class PostgresLogPartitionService {
+    public static final String ENABLED_PROPERTY = "kestra.jdbc.logs.partitioning.enabled";
+    public static final String TABLE = "logs_partitioned";
+    public static final String DEFAULT_PARTITION = TABLE + "_default";
+
+    private static final DateTimeFormatter DAY_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter HOUR_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final DateTimeFormatter BOUND = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ssxxx");
+
+    private final JooqDSLContextWrapper dslContextWrapper;
+    private final Configuration configuration;
+
+    @Inject
+    public PostgresLogPartitionService(JooqDSLContextWrapper dslContextWrapper, Configuration configuration) {
+        this.dslContextWrapper = dslContextWrapper;
+        this.configuration = configuration;
+    }
+
+    @Scheduled(fixedDelay = "${kestra.jdbc.logs.partitioning.fixed-delay:10m}")
+    public void maintain() {
+        try {
+            this.maintain(ZonedDateTime.now(ZoneOffset.UTC));
+        } catch (Exception e) {
+            log.warn("Unable to maintain the partitions of '{}'", TABLE, e);
+        }
+    }
+
+    void maintain(ZonedDateTime now) {
+        dslContextWrapper.transaction(configuration -> {
+            DSLContext context = DSL.using(configuration);
+
+            // only one instance maintains the partitions at a time
+            context.execute("SELECT pg_advisory_xact_lock(hashtext('" + TABLE + "'))");
+
+            this.create(context, now);
+
+            if (this.configuration.getRetention() != null) {
+                this.drop(context, now.minus(this.configuration.getRetention()));
+            }
+        });
+    }
+
+    private void create(DSLContext context, ZonedDateTime now) {
+        ChronoUnit unit = this.configuration.getInterval().getUnit();
+        ZonedDateTime start = now.truncatedTo(unit);
+
+        Set<ZonedDateTime> starts = new TreeSet<>();
+        for (int i = 0; i <= this.configuration.getPremake(); i++) {
+            starts.add(start.plus(i, unit));
+        }
+
+        // logs written before the first maintenance, or after a downtime longer than the premake, are in the default
+        // partition, and Postgres refuses to create a partition for a range that has rows in the default one
+        List<ZonedDateTime> defaults = context
+            .fetch(
+                "SELECT DISTINCT date_trunc('" + (unit == ChronoUnit.HOURS ? "hour" : "day") + "', timestamp AT TIME ZONE 'UTC') " +
+                    "FROM " + DEFAULT_PARTITION
+            )
+            .getValues(0, LocalDateTime.class)
+            .stream()
+            .map(date -> date.atZone(ZoneOffset.UTC))
+            .toList();
+
+        if (defaults.isEmpty()) {
+            starts.forEach(from -> this.createPartition(context, from));
+            return;
+        }
+
+        log.info("Moving the logs of the default partition to {} partitions", defaults.size());
+
+        // the logs are moved while the default partition is detached, the table lock blocks the inserts meanwhile
+        starts.addAll(defaults);
+        context.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + DEFAULT_PARTITION);
+
+        starts.forEach(from -> this.createPartition(context, from));
+
+        context.execute("INSERT INTO " + TABLE + " (key, value, timestamp) SELECT key, value, timestamp FROM " + DEFAULT_PARTITION);
+        context.execute("TRUNCATE " + DEFAULT_PARTITION);
+        context.execute("ALTER TABLE " + TABLE + " ATTACH PARTITION " + DEFAULT_PARTITION + " DEFAULT");
+    }
+
+    private void createPartition(DSLContext context, ZonedDateTime from) {
+        ZonedDateTime to = from.plus(1, this.configuration.getInterval().getUnit());
+
+        context.execute(
+            "CREATE TABLE IF NOT EXISTS " + partitionName(from, this.configuration.getInterval()) +
+                " PARTITION OF " + TABLE +
+                " FOR VALUES FROM ('" + BOUND.format(from) + "') TO ('" + BOUND.format(to) + "')"
+        );
+    }
+
+    /**
+     * Drop the partitions with all their logs before the retention date, whatever the interval they were created
+     * with, the default partition is never dropped.
+     */
+    private void drop(DSLContext context, ZonedDateTime before) {
+        List<String> partitions = context
+            .select(DSL.field("child.relname", String.class))
+            .from("pg_inherits")
+            .join("pg_class child").on("pg_inherits.inhrelid = child.oid")
+            .join("pg_class parent").on("pg_inherits.inhparent = parent.oid")
+            .where(DSL.field("parent.relname", String.class).eq(TABLE))
+            .fetch(DSL.field("child.relname", String.class));
+
+        for (String partition : partitions) {
+            Optional<ZonedDateTime> end = partitionEnd(partition);
+
+            if (end.isPresent() && !end.get().isAfter(before)) {
+                log.info("Dropping partition '{}' with logs before {}", partition, end.get());
+
+                context.execute("DROP TABLE IF EXISTS " + partition);
+            }
+        }
+    }
+
+    static String partitionName(ZonedDateTime start, Interval interval) {
+        return TABLE + "_p" + (interval == Interval.HOUR ? HOUR_SUFFIX : DAY_SUFFIX).format(start);
+    }
+
+    static Optional<ZonedDateTime> partitionEnd(String partition) {
+        String prefix = TABLE + "_p";
+        if (!partition.startsWith(prefix)) {
+            return Optional.empty();
+        }
+
+        String suffix = partition.substring(prefix.length());
+
+        try {
+            if (suffix.length() == 8) {
+                return Optional.of(LocalDateTime.parse(suffix + "00", HOUR_SUFFIX).atZone(ZoneOffset.UTC).plusDays(1));
+            } else if (suffix.length() == 10) {
+                return Optional.of(LocalDateTime.parse(suffix, HOUR_SUFFIX).atZone(ZoneOffset.UTC).plusHours(1));
+            }
+        } catch (Exception e) {
+            log.debug("Ignoring partition '{}'", partition, e);
+        }
+
+        return Optional.empty();
+    }
+
+    public enum Interval {
+        DAY(ChronoUnit.DAYS),
+        HOUR(ChronoUnit.HOURS);
+
+        @Getter
+        private final ChronoUnit unit;
+
+        Interval(ChronoUnit unit) {
+            this.unit = unit;
+        }
+    }
+
+    @ConfigurationProperties("kestra.jdbc.logs.partitioning")
+    @Getter
+    public static class Configuration {
+        Interval interval = Interval.DAY;
+
+        /**
+         * The number of partitions created ahead of the current one.
+         */
+        Integer premake = 3;
+
+        /**
+         * Logs older than the retention are dropped with their partition, kept forever if not set.
+         */
+        Duration retention;
+    }
+}
@@ -1,25 +1,51 @@
 package io.kestra.repository.postgres;
 
+import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.executions.LogEntry;
 import io.kestra.core.repositories.LogRepositoryInterface;
+import io.kestra.jdbc.JdbcConfiguration;
 import io.kestra.jdbc.repository.AbstractJdbcLogRepository;
 import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Value;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
-import org.jooq.Condition;
+import org.jooq.*;
+import org.jooq.Record;
 import org.jooq.impl.DSL;
 import org.slf4j.event.Level;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 
 @Singleton
 @PostgresRepositoryEnabled
 public class PostgresLogRepository extends AbstractJdbcLogRepository {
+    // logs can be emitted a little before the start date or after the end date of the execution (clock skew, queue lag)
+    private static final Duration EXECUTION_MARGIN = Duration.ofHours(1);
+
+    private final boolean partitioned;
+    private final Table<Record> executionTable;
+
     @Inject
-    public PostgresLogRepository(ApplicationContext applicationContext) {
-        super(new PostgresRepository<>(LogEntry.class, applicationContext));
+    public PostgresLogRepository(
+        ApplicationContext applicationContext,
+        @Value("${" + PostgresLogPartitionService.ENABLED_PROPERTY + ":false}") boolean partitioned
+    ) {
+        super(partitioned ?
+            new PostgresRepository<>(LogEntry.class, applicationContext, PostgresLogPartitionService.TABLE) :
+            new PostgresRepository<>(LogEntry.class, applicationContext)
+        );
+
+        this.partitioned = partitioned;
+        this.executionTable = DSL.table(applicationContext.getBean(JdbcConfiguration.class).tableConfig("executions").getTable());
     }
 
     @Override
@@ -37,4 +63,113 @@ public class PostgresLogRepository extends AbstractJdbcLogRepository {
                 .collect(Collectors.joining(", ")) +
             ")");
     }
+
+    /**
+     * On the partitioned table, restrict the search to the dates of the execution, so only its partitions are read.
+     */
+    @Override
+    protected Condition executionCondition(String executionId) {
+        Condition condition = super.executionCondition(executionId);
+
+        if (!partitioned) {
+            return condition;
+        }
+
+        Record2<String, String> dates = this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> DSL
+                .using(configuration)
+                .select(
+                    DSL.field("value #>> '{state, startDate}'", String.class),
+                    DSL.field("value #>> '{state, endDate}'", String.class)
+                )
+                .from(this.executionTable)
+                .where(field("key").eq(executionId))
+                .fetchOne()
+            );
+
+        if (dates == null || dates.value1() == null) {
+            return condition;
+        }
+
+        condition = condition.and(field("timestamp").greaterOrEqual(ZonedDateTime.parse(dates.value1()).minus(EXECUTION_MARGIN).toOffsetDateTime()));
+
+        if (dates.value2() != null) {
+            condition = condition.and(field("timestamp").lessOrEqual(ZonedDateTime.parse(dates.value2()).plus(EXECUTION_MARGIN).toOffsetDateTime()));
+        }
+
+        return condition;
+    }
+
+    /**
+     * On the partitioned table, restrict the purge to the dates of the executions, so only their partitions are read.
+     */
+    @Override
+    protected Condition executionsCondition(List<Execution> executions) {
+        Condition condition = super.executionsCondition(executions);
+
+        if (!partitioned || executions.isEmpty() || executions.stream().anyMatch(execution -> execution.getState() == null)) {
+            return condition;
+        }
+
+        Instant startDate = executions
+            .stream()
+            .map(execution -> execution.getState().getStartDate())
+            .min(Comparator.naturalOrder())
+            .orElseThrow();
+
+        condition = condition.and(field("timestamp").greaterOrEqual(startDate.minus(EXECUTION_MARGIN).atOffset(ZoneOffset.UTC)));
+
+        // only bounded if all the executions are ended
+        List<Instant> endDates = executions
+            .stream()
+            .flatMap(execution -> execution.getState().getEndDate().stream())
+            .toList();
+
+        if (endDates.size() == executions.size()) {
+            Instant endDate = Collections.max(endDates);
+            condition = condition.and(field("timestamp").lessOrEqual(endDate.plus(EXECUTION_MARGIN).atOffset(ZoneOffset.UTC)));
+        }
+
+        return condition;
+    }
+
+    @Override
+    public LogEntry save(LogEntry log) {
+        if (!partitioned) {
+            return super.save(log);
+        }
+
+        this.jdbcRepository
+            .getDslContextWrapper()
+            .transaction(configuration -> this.insert(DSL.using(configuration), log));
+
+        return log;
+    }
+
+    @Override
+    public LogEntry save(DSLContext dslContext, LogEntry logEntry) {
+        if (!partitioned) {
+            return super.save(dslContext, logEntry);
+        }
+
+        this.insert(dslContext, logEntry);
+
+        return logEntry;
+    }
+
+    /**
+     * The partition key can't be a generated column, and the primary key must contain it, so the timestamp is set
+     * explicitly, and a plain insert is done as the log keys are always new.
+     */
+    private void insert(DSLContext context, LogEntry logEntry) {
+        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(logEntry);
+        fields.put(field("timestamp"), logEntry.getTimestamp().atOffset(ZoneOffset.UTC));
+
+        context
+            .insertInto(this.jdbcRepository.getTable())
+            .set(field("key"), this.jdbcRepository.key(logEntry))
+            .set(fields)
+            .execute();
+    }
 }
@@ -19,6 +19,12 @@ public class PostgresRepository<T> extends io.kestra.jdbc.AbstractJdbcRepository
         super(cls, applicationContext);
     }
 
+    public PostgresRepository(Class<T> cls, ApplicationContext applicationContext, String table) {
+        super(cls, applicationContext);
+
+        this.table = DSL.table(table);
+    }
+
     @Override
     public Condition fullTextCondition(List<String> fields, String query) {
         if (query == null || query.equals("*")) {
@@ -58,7 +64,7 @@ public class PostgresRepository<T> extends io.kestra.jdbc.AbstractJdbcRepository
     }
 
     @SuppressWarnings("unchecked")
-    public <R extends Record, E> ArrayListTotal<E> fetchPage(DSLContext context, SelectConditionStep<R> select, Pageable pageable, RecordMapper<R, E> mapper) {
+    protected <R extends Record, E> ArrayListTotal<E> fetchOffsetPage(DSLContext context, SelectConditionStep<R> select, Pageable pageable, RecordMapper<R, E> mapper) {
         Result<Record> results = this.limit(
             context.select(DSL.asterisk(), DSL.count().over().as("total_count"))
                 .from(this
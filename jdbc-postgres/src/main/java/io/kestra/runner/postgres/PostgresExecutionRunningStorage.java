@@ -0,0 +1,27 @@
+package io.kestra.runner.postgres;
+
+import io.kestra.core.runners.ExecutionRunning;
+import io.kestra.jdbc.runner.AbstractJdbcExecutionRunningStorage;
+import io.kestra.repository.postgres.PostgresRepository;
+import io.micronaut.context.ApplicationContext;
+import jakarta.inject.Singleton;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+
+@Singleton
+@PostgresQueueEnabled
+public class PostgresExecutionRunningStorage extends AbstractJdbcExecutionRunningStorage {
+    public PostgresExecutionRunningStorage(ApplicationContext applicationContext) {
+        super(new PostgresRepository<>(ExecutionRunning.class, applicationContext), applicationContext);
+    }
+
+    @Override
+    protected Field<Object> value() {
+        return DSL.jsonbObject(
+            DSL.key("tenantId").value(field("tenant_id")),
+            DSL.key("namespace").value(field("namespace")),
+            DSL.key("flowId").value(field("flow_id")),
+            DSL.key("executionId").value(field("key"))
+        ).coerce(Object.class);
+    }
+}
@@ -9,6 +9,7 @@ import org.jooq.*;
 import org.jooq.Record;
 import org.jooq.impl.DSL;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -17,6 +18,15 @@ import static org.jooq.impl.DSL.*;
 public class PostgresQueue<T> extends JdbcQueue<T> {
     private boolean disableSeqScan = false;
 
+    private PostgresQueueListener listener;
+
+    private final String channel;
+
+    private Duration notifySafetyPollInterval;
+
+    // the partition of this queue type if the queue table is partitioned, else the queue table
+    private final Table<Record> partition;
+
     public PostgresQueue(Class<T> cls, ApplicationContext applicationContext) {
         super(cls, applicationContext);
 
@@ -24,6 +34,39 @@ public class PostgresQueue<T> extends JdbcQueue<T> {
         if (maybeDisableSeScan.isPresent() && maybeDisableSeScan.get()) {
             disableSeqScan = true;
         }
+
+        this.channel = this.table.getName() + "_" + this.queueName(cls);
+        this.partition = this.partition(this.table.getName() + "_" + this.queueName(cls));
+
+        var maybeNotify = applicationContext.getProperty("kestra.queue.postgres.notify.enabled", Boolean.class);
+        if (maybeNotify.isPresent() && maybeNotify.get()) {
+            this.listener = applicationContext.getBean(PostgresQueueListener.class);
+            this.listener.register(this.channel);
+            this.notifySafetyPollInterval = applicationContext
+                .getProperty("kestra.queue.postgres.notify.safety-poll-interval", Duration.class)
+                .orElse(Duration.ofSeconds(5));
+        }
+    }
+
+    /**
+     * The queue table can be partitioned by type, partitions being named after the queue name, in this case the
+     * reads and updates are done directly on the partition of the queue type.
+     */
+    private Table<Record> partition(String name) {
+        Boolean isPartition = dslContextWrapper.transactionResult(configuration -> DSL
+            .using(configuration)
+            .fetchExists(DSL.selectOne()
+                .from("pg_inherits")
+                .where("inhrelid = to_regclass(?) AND inhparent = to_regclass(?)", name, this.table.getName())
+            )
+        );
+
+        return isPartition ? DSL.table(name) : this.table;
+    }
+
+    @Override
+    protected Table<Record> readTable() {
+        return this.partition;
     }
 
     @Override
@@ -39,13 +82,43 @@ public class PostgresQueue<T> extends JdbcQueue<T> {
         return map;
     }
 
+    @Override
+    protected void produceNotify(DSLContext context) {
+        if (listener != null) {
+            // notifications are transactional, consumers will only be woken up on commit
+            context.execute("SELECT pg_notify(?, '')", this.channel);
+        }
+    }
+
+    @Override
+    protected long pollWakeup() {
+        return listener != null ? listener.generation(this.channel) : 0L;
+    }
+
+    @Override
+    protected void pollWait(long wakeup, int count, long sleep) throws InterruptedException {
+        if (listener == null) {
+            super.pollWait(wakeup, count, sleep);
+            return;
+        }
+
+        // a full batch means there is probably more to fetch right now
+        if (count >= configuration.getPollSize()) {
+            return;
+        }
+
+        // the regular poll is only kept as a safety net in case a notification was missed
+        listener.await(this.channel, wakeup, notifySafetyPollInterval.toMillis());
+    }
+
     @Override
     protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, @NonNull Integer offset) {
         var select = ctx.select(
                 AbstractJdbcRepository.field("value"),
+                AbstractJdbcRepository.field("value_bytes"),
                 AbstractJdbcRepository.field("offset")
             )
-            .from(this.table)
+            .from(this.partition)
             .where(DSL.condition("type = CAST(? AS queue_type)", this.cls.getName()));
 
         if (offset != 0) {
@@ -75,9 +148,10 @@ public class PostgresQueue<T> extends JdbcQueue<T> {
 
         var select = ctx.select(
                 AbstractJdbcRepository.field("value"),
+                AbstractJdbcRepository.field("value_bytes"),
                 AbstractJdbcRepository.field("offset")
             )
-            .from(this.table)
+            .from(this.partition)
             .where(DSL.condition("type = CAST(? AS queue_type)", this.cls.getName()))
             .and(AbstractJdbcRepository.field("consumer_" + queueType, Boolean.class).isFalse());
 
@@ -98,7 +172,7 @@ public class PostgresQueue<T> extends JdbcQueue<T> {
     @SuppressWarnings("RedundantCast")
     @Override
     protected void updateGroupOffsets(DSLContext ctx, String consumerGroup, String queueType, List<Integer> offsets) {
-        var update = ctx.update(DSL.table(table.getName()))
+        var update = ctx.update(DSL.table(this.partition.getName()))
             .set(
                 AbstractJdbcRepository.field("consumer_" + queueType),
                 true
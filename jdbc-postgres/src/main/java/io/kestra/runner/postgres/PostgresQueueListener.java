@@ -0,0 +1,150 @@
+package io.kestra.runner.postgres;
+
+import io.kestra.core.utils.ExecutorsUtils;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+
+/**
+ * Hold a dedicated connection that <code>LISTEN</code> on every registered queue channel and wake up the
+ * {@link PostgresQueue} consumers waiting on it.
+ * Each channel keeps a generation counter, incremented on each notification, so a consumer can detect a message
+ * produced while it was polling.
+ */
+@Singleton
+@PostgresQueueEnabled
+@Slf4j
+public class PostgresQueueListener {
+    private static final Duration RECEIVE_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(1);
+
+    @Inject
+    private DataSource dataSource;
+
+    @Inject
+    private ExecutorsUtils executorsUtils;
+
+    private final Map<String, AtomicLong> channels = new ConcurrentHashMap<>();
+
+    private final Set<String> listening = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean started = new AtomicBoolean(false);
+
+    private volatile boolean running = true;
+
+    private ExecutorService executorService;
+
+    public void register(String channel) {
+        channels.computeIfAbsent(channel, s -> new AtomicLong());
+
+        if (started.compareAndSet(false, true)) {
+            this.executorService = executorsUtils.singleThreadExecutor("postgres-queue-listener");
+            this.executorService.execute(this::run);
+        }
+    }
+
+    public long generation(String channel) {
+        return channels.get(channel).get();
+    }
+
+    /**
+     * Wait until a notification is received on the channel after the given generation, or the timeout elapsed.
+     */
+    public void await(String channel, long generation, long timeout) throws InterruptedException {
+        AtomicLong current = channels.get(channel);
+        long deadline = System.currentTimeMillis() + timeout;
+
+        synchronized (current) {
+            long remaining = timeout;
+            while (current.get() == generation && remaining > 0) {
+                current.wait(remaining);
+                remaining = deadline - System.currentTimeMillis();
+            }
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                listening.clear();
+
+                // notifications may have been lost while disconnected, wake up everyone to poll
+                channels.keySet().forEach(this::wakeup);
+
+                while (running) {
+                    this.listen(connection);
+
+                    PGNotification[] notifications = pgConnection.getNotifications((int) RECEIVE_TIMEOUT.toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            this.wakeup(notification.getName());
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                // any failure must not stop the thread, the consumers would only be woken up by their poll timeout
+                if (!running) {
+                    return;
+                }
+
+                log.warn("Postgres queue listener failed, reconnecting", e);
+
+                try {
+                    Thread.sleep(RECONNECT_DELAY.toMillis());
+                } catch (InterruptedException ex) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        for (String channel : channels.keySet()) {
+            if (!listening.contains(channel)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN \"" + channel + "\"");
+                }
+
+                listening.add(channel);
+            }
+        }
+    }
+
+    private void wakeup(String channel) {
+        AtomicLong current = channels.get(channel);
+        if (current == null) {
+            return;
+        }
+
+        synchronized (current) {
+            current.incrementAndGet();
+            current.notifyAll();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        this.running = false;
+
+        if (this.executorService != null) {
+            this.executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS execution_taskruns (
+    key VARCHAR(250) NOT NULL PRIMARY KEY,
+    value JSONB NOT NULL,
+    execution_id VARCHAR(150) NOT NULL GENERATED ALWAYS AS (value ->> 'executionId') STORED,
+    position INT NOT NULL,
+    hash VARCHAR(32) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS execution_taskruns__execution_id ON execution_taskruns (execution_id, position);
@@ -0,0 +1,38 @@
+/* ----------------------- logs_partitioned ----------------------- */
+/* used instead of logs when kestra.jdbc.logs.partitioning.enabled is true, partitions are managed by PostgresLogPartitionService */
+CREATE TABLE IF NOT EXISTS logs_partitioned (
+    key VARCHAR(30) NOT NULL,
+    value JSONB NOT NULL,
+    deleted BOOL NOT NULL GENERATED ALWAYS AS (CAST(value ->> 'deleted' AS bool)) STORED,
+    tenant_id VARCHAR(250) GENERATED ALWAYS AS (value ->> 'tenantId') STORED,
+    namespace VARCHAR(150) NOT NULL GENERATED ALWAYS AS (value ->> 'namespace') STORED,
+    flow_id VARCHAR(150) NOT NULL GENERATED ALWAYS AS (value ->> 'flowId') STORED,
+    task_id VARCHAR(150) GENERATED ALWAYS AS (value ->> 'taskId') STORED,
+    execution_id VARCHAR(150) NOT NULL GENERATED ALWAYS AS (value ->> 'executionId') STORED,
+    taskrun_id VARCHAR(150) GENERATED ALWAYS AS (value ->> 'taskRunId') STORED,
+    attempt_number INT GENERATED ALWAYS AS (CAST(value ->> 'attemptNumber' AS INTEGER)) STORED,
+    trigger_id VARCHAR(150) GENERATED ALWAYS AS (value ->> 'triggerId') STORED,
+    level log_level NOT NULL GENERATED ALWAYS AS (LOGLEVEL_FROMTEXT(value ->> 'level')) STORED,
+    /* generated columns can't be used as partition key, it's set on insert */
+    timestamp TIMESTAMPTZ NOT NULL,
+    fulltext TSVECTOR GENERATED ALWAYS AS (
+        FULLTEXT_INDEX(CAST(value ->> 'namespace' AS varchar)) ||
+        FULLTEXT_INDEX(CAST(value ->> 'flowId' AS varchar)) ||
+        FULLTEXT_INDEX(COALESCE(CAST(value ->> 'taskId' AS varchar), '')) ||
+        FULLTEXT_INDEX(COALESCE(CAST(value ->> 'executionId' AS varchar), '')) ||
+        FULLTEXT_INDEX(COALESCE(CAST(value ->> 'taskRunId' AS varchar), '')) ||
+        FULLTEXT_INDEX(COALESCE(CAST(value ->> 'triggerId' AS varchar), '')) ||
+        FULLTEXT_INDEX(COALESCE(CAST(value ->> 'message' AS varchar), '')) ||
+        FULLTEXT_INDEX(COALESCE(CAST(value ->> 'thread' AS varchar), ''))
+    ) STORED,
+    PRIMARY KEY (key, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+/* catch the logs outside of the created partitions, PostgresLogPartitionService moves them to their partition */
+CREATE TABLE IF NOT EXISTS logs_partitioned_default PARTITION OF logs_partitioned DEFAULT;
+
+CREATE INDEX IF NOT EXISTS logs_partitioned_execution_id ON logs_partitioned (deleted, execution_id);
+CREATE INDEX IF NOT EXISTS logs_partitioned_execution_id__task_id ON logs_partitioned (deleted, execution_id, task_id);
+CREATE INDEX IF NOT EXISTS logs_partitioned_execution_id__taskrun_id ON logs_partitioned (deleted, execution_id, taskrun_id);
+CREATE INDEX IF NOT EXISTS logs_partitioned_namespace_flow ON logs_partitioned (deleted, tenant_id, timestamp, level, namespace, flow_id);
+CREATE INDEX IF NOT EXISTS logs_partitioned_fulltext ON logs_partitioned USING GIN (fulltext);
@@ -0,0 +1,43 @@
+/* ----------------------- queues_partitioned ----------------------- */
+/* can be used instead of queues with kestra.jdbc.tables.queues.table, each queue type has its own partition */
+CREATE TABLE IF NOT EXISTS queues_partitioned (
+    "offset" SERIAL NOT NULL,
+    type queue_type NOT NULL,
+    key VARCHAR(250) NOT NULL,
+    value JSONB NOT NULL,
+    updated TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    consumer_group VARCHAR(250),
+    consumer_indexer BOOLEAN DEFAULT FALSE,
+    consumer_executor BOOLEAN DEFAULT FALSE,
+    consumer_worker BOOLEAN DEFAULT FALSE,
+    consumer_scheduler BOOLEAN DEFAULT FALSE,
+    consumer_flow_topology BOOLEAN DEFAULT FALSE,
+    PRIMARY KEY (type, "offset")
+) PARTITION BY LIST (type);
+
+/* partitions are named after the queue name used by PostgresQueue */
+CREATE TABLE IF NOT EXISTS queues_partitioned_execution PARTITION OF queues_partitioned FOR VALUES IN ('io.kestra.core.models.executions.Execution');
+CREATE TABLE IF NOT EXISTS queues_partitioned_execution_killed PARTITION OF queues_partitioned FOR VALUES IN ('io.kestra.core.models.executions.ExecutionKilled');
+CREATE TABLE IF NOT EXISTS queues_partitioned_log_entry PARTITION OF queues_partitioned FOR VALUES IN ('io.kestra.core.models.executions.LogEntry');
+CREATE TABLE IF NOT EXISTS queues_partitioned_metric_entry PARTITION OF queues_partitioned FOR VALUES IN ('io.kestra.core.models.executions.MetricEntry');
+CREATE TABLE IF NOT EXISTS queues_partitioned_flow PARTITION OF queues_partitioned FOR VALUES IN ('io.kestra.core.models.flows.Flow');
+CREATE TABLE IF NOT EXISTS queues_partitioned_template PARTITION OF queues_partitioned FOR VALUES IN ('io.kestra.core.models.templates.Template');
+CREATE TABLE IF NOT EXISTS queues_partitioned_trigger PARTITION OF queues_partitioned FOR VALUES IN ('io.kestra.core.models.triggers.Trigger');
+CREATE TABLE IF NOT EXISTS queues_partitioned_worker_job PARTITION OF queues_partitioned FOR VALUES IN ('io.kestra.core.runners.WorkerJob');
+CREATE TABLE IF NOT EXISTS queues_partitioned_worker_task_result PARTITION OF queues_partitioned FOR VALUES IN ('io.kestra.core.runners.WorkerTaskResult');
+CREATE TABLE IF NOT EXISTS queues_partitioned_worker_trigger_result PARTITION OF queues_partitioned FOR VALUES IN ('io.kestra.core.runners.WorkerTriggerResult');
+CREATE TABLE IF NOT EXISTS queues_partitioned_worker_instance PARTITION OF queues_partitioned FOR VALUES IN ('io.kestra.core.runners.WorkerInstance');
+CREATE TABLE IF NOT EXISTS queues_partitioned_subflow_execution_result PARTITION OF queues_partitioned FOR VALUES IN ('io.kestra.core.runners.SubflowExecutionResult');
+CREATE TABLE IF NOT EXISTS queues_partitioned_default PARTITION OF queues_partitioned DEFAULT;
+
+CREATE INDEX IF NOT EXISTS queues_partitioned_offset ON queues_partitioned ("offset");
+CREATE INDEX IF NOT EXISTS queues_partitioned_updated ON queues_partitioned ("updated");
+CREATE INDEX IF NOT EXISTS queues_partitioned_consumer_flow_topology ON queues_partitioned (consumer_flow_topology, "offset") WHERE consumer_flow_topology = false;
+CREATE INDEX IF NOT EXISTS queues_partitioned_consumer_indexer ON queues_partitioned (consumer_indexer, "offset") WHERE consumer_indexer = false;
+CREATE INDEX IF NOT EXISTS queues_partitioned_consumer_executor ON queues_partitioned (consumer_executor, "offset") WHERE consumer_executor = false;
+CREATE INDEX IF NOT EXISTS queues_partitioned_consumer_worker ON queues_partitioned (consumer_worker, "offset") WHERE consumer_worker = false;
+CREATE INDEX IF NOT EXISTS queues_partitioned_consumer_scheduler ON queues_partitioned (consumer_scheduler, "offset") WHERE consumer_scheduler = false;
+
+CREATE OR REPLACE TRIGGER queues_partitioned_updated BEFORE UPDATE
+    ON queues_partitioned FOR EACH ROW EXECUTE PROCEDURE
+    UPDATE_UPDATED_DATETIME();
@@ -0,0 +1,6 @@
+/* messages are stored on value_bytes when a binary codec is configured for their queue */
+ALTER TABLE queues ALTER COLUMN value DROP NOT NULL;
+ALTER TABLE queues ADD COLUMN IF NOT EXISTS value_bytes BYTEA;
+
+ALTER TABLE queues_partitioned ALTER COLUMN value DROP NOT NULL;
+ALTER TABLE queues_partitioned ADD COLUMN IF NOT EXISTS value_bytes BYTEA;
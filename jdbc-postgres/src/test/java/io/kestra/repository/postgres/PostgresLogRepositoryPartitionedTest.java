@@ -0,0 +1,91 @@
+package io.kestra.repository.postgres;
+
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import io.kestra.jdbc.repository.AbstractJdbcLogRepositoryTest;
+import io.micronaut.context.annotation.Property;
+import jakarta.inject.Inject;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Property(name = PostgresLogPartitionService.ENABLED_PROPERTY, value = "true")
+@Property(name = "kestra.jdbc.logs.partitioning.retention", value = "7d")
+public class PostgresLogRepositoryPartitionedTest extends AbstractJdbcLogRepositoryTest {
+    @Inject
+    PostgresLogPartitionService partitionService;
+
+    @Inject
+    JooqDSLContextWrapper dslContextWrapper;
+
+    @Test
+    void partitions() {
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        String old = PostgresLogPartitionService.partitionName(now.minusDays(30), PostgresLogPartitionService.Interval.DAY);
+        String current = PostgresLogPartitionService.partitionName(now, PostgresLogPartitionService.Interval.DAY);
+        String next = PostgresLogPartitionService.partitionName(now.plusDays(3), PostgresLogPartitionService.Interval.DAY);
+
+        partitionService.maintain(now.minusDays(30));
+        assertThat(partitions(), hasItem(old));
+
+        partitionService.maintain(now);
+        assertThat(partitions(), allOf(hasItem(current), hasItem(next), hasItem(PostgresLogPartitionService.TABLE + "_default")));
+        assertThat(partitions(), not(hasItem(old)));
+    }
+
+    @Test
+    void moveDefaultPartition() {
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        ZonedDateTime outside = now.plusDays(10);
+
+        partitionService.maintain(now);
+
+        // outside of the premade partitions, so written to the default one
+        LogEntry log = logRepository.save(logEntry(Level.INFO).timestamp(outside.toInstant()).build());
+        assertThat(count(PostgresLogPartitionService.DEFAULT_PARTITION), is(1));
+
+        // the range of the log is not premade, its partition is created for the moved logs
+        partitionService.maintain(now);
+
+        String partition = PostgresLogPartitionService.partitionName(outside, PostgresLogPartitionService.Interval.DAY);
+        assertThat(partitions(), allOf(hasItem(partition), hasItem(PostgresLogPartitionService.DEFAULT_PARTITION)));
+        assertThat(count(PostgresLogPartitionService.DEFAULT_PARTITION), is(0));
+        assertThat(count(partition), is(1));
+        assertThat(logRepository.findByExecutionId(null, log.getExecutionId(), null).size(), is(1));
+    }
+
+    @Test
+    void partitionEnd() {
+        assertThat(
+            PostgresLogPartitionService.partitionEnd(PostgresLogPartitionService.TABLE + "_p20240101").orElseThrow(),
+            is(ZonedDateTime.of(2024, 1, 2, 0, 0, 0, 0, ZoneOffset.UTC))
+        );
+        assertThat(
+            PostgresLogPartitionService.partitionEnd(PostgresLogPartitionService.TABLE + "_p2024010113").orElseThrow(),
+            is(ZonedDateTime.of(2024, 1, 1, 14, 0, 0, 0, ZoneOffset.UTC))
+        );
+        assertThat(PostgresLogPartitionService.partitionEnd(PostgresLogPartitionService.TABLE + "_default").isPresent(), is(false));
+    }
+
+    private int count(String partition) {
+        return dslContextWrapper.transactionResult(configuration -> DSL.using(configuration).fetchCount(DSL.table(partition)));
+    }
+
+    private List<String> partitions() {
+        return dslContextWrapper.transactionResult(configuration -> DSL.using(configuration)
+            .select(DSL.field("child.relname", String.class))
+            .from("pg_inherits")
+            .join("pg_class child").on("pg_inherits.inhrelid = child.oid")
+            .join("pg_class parent").on("pg_inherits.inhparent = parent.oid")
+            .where(DSL.field("parent.relname", String.class).eq(PostgresLogPartitionService.TABLE))
+            .fetch(DSL.field("child.relname", String.class))
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package io.kestra.runner.postgres;
+
+import io.kestra.jdbc.runner.JdbcQueueTest;
+import io.micronaut.context.annotation.Property;
+
+@Property(name = "kestra.jdbc.tables.queues.table", value = "queues_partitioned")
+class PostgresPartitionedQueueTest extends JdbcQueueTest {
+
+}
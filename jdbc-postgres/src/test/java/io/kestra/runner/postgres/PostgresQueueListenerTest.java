@@ -0,0 +1,64 @@
+package io.kestra.runner.postgres;
+
+import io.kestra.core.utils.ExecutorsUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import javax.sql.DataSource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresQueueListenerTest {
+    @Mock
+    DataSource dataSource;
+
+    @Mock
+    ExecutorsUtils executorsUtils;
+
+    @InjectMocks
+    PostgresQueueListener listener;
+
+    @AfterEach
+    void close() {
+        listener.close();
+    }
+
+    @Test
+    void recoverFromUnexpectedFailure() throws Exception {
+        PGConnection pgConnection = mock(PGConnection.class);
+        when(pgConnection.getNotifications(anyInt())).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return null;
+        });
+
+        Connection connection = mock(Connection.class);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+
+        // not a SQLException, the listener thread must survive it and reconnect
+        when(dataSource.getConnection())
+            .thenThrow(new IllegalStateException("unexpected failure"))
+            .thenReturn(connection);
+        when(executorsUtils.singleThreadExecutor(anyString())).thenReturn(Executors.newSingleThreadExecutor());
+
+        listener.register("queue_test");
+
+        // consumers are woken up once reconnected
+        listener.await("queue_test", 0, 10000);
+        assertThat(listener.generation("queue_test"), greaterThan(0L));
+
+        verify(dataSource, times(2)).getConnection();
+        verify(connection, timeout(5000)).createStatement();
+    }
+}
@@ -5,11 +5,14 @@ import io.kestra.core.exceptions.DeserializationException;
 import io.kestra.core.models.executions.metrics.MetricAggregation;
 import io.kestra.core.queues.QueueService;
 import io.kestra.core.repositories.ArrayListTotal;
+import io.kestra.core.repositories.CursorPageable;
 import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.utils.IdUtils;
 import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Sort;
+import io.reactivex.Flowable;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
@@ -19,13 +22,20 @@ import org.jooq.*;
 import org.jooq.impl.DSL;
 
 import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.DayOfWeek;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAdjusters;
 import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -44,6 +54,8 @@ public abstract class AbstractJdbcRepository<T> {
     @Getter
     protected Table<Record> table;
 
+    private volatile Set<String> nullableFields;
+
     public AbstractJdbcRepository(
         Class<T> cls,
         ApplicationContext applicationContext
@@ -98,6 +110,18 @@ public abstract class AbstractJdbcRepository<T> {
             .execute();
     }
 
+    /**
+     * The update of an entity that already exists, without executing it, to send several of them in a batch.
+     */
+    public Query updateQuery(T entity, DSLContext dslContext, Map<Field<Object>, Object> fields) {
+        Map<Field<Object>, Object> finalFields = fields == null ? this.persistFields(entity) : fields;
+
+        return dslContext
+            .update(table)
+            .set(finalFields)
+            .where(io.kestra.jdbc.repository.AbstractJdbcRepository.field("key").eq(key(entity)));
+    }
+
     public int delete(T entity) {
         return dslContextWrapper.transactionResult(configuration -> {
             return this.delete(DSL.using(configuration), entity);
@@ -178,11 +202,304 @@ public abstract class AbstractJdbcRepository<T> {
         return select.fetch().map(this::map);
     }
 
+    /**
+     * Fetch the records with a cursor and map them one by one, so the whole result is never loaded in memory.
+     * Must be called inside a transaction as some databases only stream the results when auto-commit is disabled.
+     */
+    public <R extends Record> void fetchLazy(ResultQuery<R> select, Consumer<T> consumer) {
+        try (Cursor<R> cursor = select.fetchSize(this.fetchSize()).fetchLazy()) {
+            cursor.forEach(record -> consumer.accept(this.map(record)));
+        }
+    }
+
+    /**
+     * Stream the records with a cursor opened on its own connection: the records are only read and mapped when the
+     * subscriber requests them, by batches given to the optional batch mapper.
+     * The batch mapper is given the cursor connection, or another one in a transaction if the database can't run
+     * another query while a result is streamed, see {@link #isConnectionBusyWhileStreaming()}.
+     */
+    public <R extends Record> Flowable<T> fetchFlowable(
+        Function<DSLContext, ResultQuery<R>> select,
+        int batchSize,
+        @Nullable BiFunction<DSLContext, List<T>, List<T>> batchMapper
+    ) {
+        return Flowable.generate(
+            () -> new LazyFetch<>(select, batchSize, batchMapper),
+            (fetch, emitter) -> {
+                T next = fetch.next();
+
+                if (next == null) {
+                    emitter.onComplete();
+                } else {
+                    emitter.onNext(next);
+                }
+            },
+            LazyFetch::close
+        );
+    }
+
+    protected int fetchSize() {
+        return 100;
+    }
+
+    /**
+     * Whether the connection can't run any other query while a result is streamed with {@link #fetchSize()}.
+     */
+    protected boolean isConnectionBusyWhileStreaming() {
+        return false;
+    }
+
+    private class LazyFetch<R extends Record> implements AutoCloseable {
+        private final Connection connection;
+        private final Cursor<R> cursor;
+        private final int batchSize;
+        private final BiFunction<DSLContext, List<T>, List<T>> batchMapper;
+        private final Deque<T> buffer = new ArrayDeque<>();
+
+        private LazyFetch(Function<DSLContext, ResultQuery<R>> select, int batchSize, BiFunction<DSLContext, List<T>, List<T>> batchMapper) throws SQLException {
+            this.connection = dslContextWrapper.acquire();
+            this.batchSize = batchSize;
+            this.batchMapper = batchMapper;
+
+            try {
+                this.cursor = select.apply(dslContextWrapper.using(connection))
+                    .fetchSize(fetchSize())
+                    .fetchLazy();
+            } catch (RuntimeException e) {
+                dslContextWrapper.release(connection);
+                throw e;
+            }
+        }
+
+        private T next() {
+            if (this.buffer.isEmpty() && this.cursor.hasNext()) {
+                List<T> batch = this.cursor.fetchNext(this.batchSize).map(AbstractJdbcRepository.this::map);
+                this.buffer.addAll(this.map(batch));
+            }
+
+            return this.buffer.poll();
+        }
+
+        private List<T> map(List<T> batch) {
+            if (this.batchMapper == null) {
+                return batch;
+            }
+
+            if (isConnectionBusyWhileStreaming()) {
+                return dslContextWrapper.transactionResult(configuration -> this.batchMapper.apply(DSL.using(configuration), batch));
+            }
+
+            return this.batchMapper.apply(dslContextWrapper.using(this.connection), batch);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                this.cursor.close();
+            } finally {
+                dslContextWrapper.release(connection);
+            }
+        }
+    }
+
     public List<MetricAggregation> fetchMetricStat(Select<Record> select, String groupByType) {
         return select.fetch().map(e -> this.mapMetricAggregation(e, groupByType));
     }
 
-    abstract public <R extends Record, E> ArrayListTotal<E> fetchPage(DSLContext context, SelectConditionStep<R> select, Pageable pageable, RecordMapper<R, E> mapper);
+    public <R extends Record, E> ArrayListTotal<E> fetchPage(DSLContext context, SelectConditionStep<R> select, Pageable pageable, RecordMapper<R, E> mapper) {
+        if (pageable instanceof CursorPageable cursorPageable && pageable.getSize() != -1) {
+            return this.fetchCursorPage(context, select, cursorPageable, mapper);
+        }
+
+        return this.fetchOffsetPage(context, select, pageable, mapper);
+    }
+
+    /**
+     * Fetch a page by offset with the exact total, the most efficient way for the database.
+     */
+    abstract protected <R extends Record, E> ArrayListTotal<E> fetchOffsetPage(DSLContext context, SelectConditionStep<R> select, Pageable pageable, RecordMapper<R, E> mapper);
+
+    /**
+     * Fetch a page with the total counted by its own query, capped to the count limit if any, and after the cursor if
+     * any: the cursor holds the sort values and the key of the last record of the previous page, and the page is the
+     * records ordered after them with the same sort and the key as tiebreaker, so the sort columns are read with the
+     * index instead of skipping all the previous rows.
+     * The ordering of the nulls depends on the database, so a sort on a nullable column has no next page cursor and
+     * is rejected with a cursor.
+     */
+    protected <R extends Record, E> ArrayListTotal<E> fetchCursorPage(DSLContext context, SelectConditionStep<R> select, CursorPageable pageable, RecordMapper<R, E> mapper) {
+        SelectQuery<R> query = select.getQuery();
+
+        Field<Object> key = io.kestra.jdbc.repository.AbstractJdbcRepository.field("key");
+        List<Field<Object>> fields = new ArrayList<>();
+        List<SortField<Object>> sortFields = new ArrayList<>();
+        boolean nullable = false;
+
+        if (pageable.getSort().isSorted()) {
+            Set<String> nullableFields = this.nullableFields(context);
+
+            for (Sort.Order order : pageable.getSort().getOrderBy()) {
+                Field<Object> field = io.kestra.jdbc.repository.AbstractJdbcRepository.field(order.getProperty());
+
+                fields.add(field);
+                sortFields.add(order.getDirection() == Sort.Order.Direction.ASC ? field.asc() : field.desc());
+                nullable = nullable || nullableFields.contains(order.getProperty());
+            }
+        }
+
+        fields.add(key);
+        sortFields.add(key.asc());
+
+        Condition afterCursor = null;
+        if (pageable.getCursor() != null) {
+            if (nullable) {
+                throw new IllegalArgumentException("Invalid sort with a cursor, the sort columns can't be null");
+            }
+
+            afterCursor = this.afterCursor(fields, sortFields, PageCursor.decode(pageable.getCursor(), fields.size()));
+        }
+
+        // the MySQL found rows would count all the matching rows anyway
+        query.addHint(null);
+
+        long total;
+        boolean totalCapped = false;
+
+        if (pageable.getCountLimit() != null) {
+            query.addLimit(pageable.getCountLimit() + 1);
+            total = context.fetchCount(query);
+
+            if (total > pageable.getCountLimit()) {
+                total = pageable.getCountLimit();
+                totalCapped = true;
+            }
+        } else {
+            total = context.fetchCount(query);
+        }
+
+        if (afterCursor != null) {
+            query.addConditions(afterCursor);
+        }
+
+        query.addSelect(fields);
+        query.addOrderBy(sortFields);
+
+        // one more record to know if there is a next page
+        if (pageable.getCursor() != null) {
+            query.addLimit(pageable.getSize() + 1);
+        } else {
+            query.addLimit(pageable.getOffset() - pageable.getSize(), pageable.getSize() + 1);
+        }
+
+        Result<R> results = query.fetch();
+
+        String next = null;
+        if (results.size() > pageable.getSize() && !nullable) {
+            next = PageCursor.of(results.get(pageable.getSize() - 1), fields).encode();
+        }
+
+        List<E> map = results
+            .stream()
+            .limit(pageable.getSize())
+            .map(mapper::map)
+            .toList();
+
+        return new ArrayListTotal<>(map, total, totalCapped, next);
+    }
+
+    /**
+     * The records ordered after the cursor, for a sort on <code>f1, f2, key</code>:
+     * <code>f1 > c1 or (f1 = c1 and f2 > c2) or (f1 = c1 and f2 = c2 and key > c3)</code> where the <code>c</code>
+     * are the values of the cursor, inlined as literals so each database converts them to the column type.
+     */
+    private Condition afterCursor(List<Field<Object>> fields, List<SortField<Object>> sortFields, PageCursor cursor) {
+        Condition condition = DSL.falseCondition();
+        Condition equals = DSL.trueCondition();
+
+        for (int i = 0; i < fields.size(); i++) {
+            Field<Object> field = fields.get(i);
+            Field<Object> value = DSL.inline(cursor.values().get(i));
+
+            condition = condition.or(equals.and(
+                sortFields.get(i).getOrder() == SortOrder.DESC ? field.lessThan(value) : field.greaterThan(value)
+            ));
+            equals = equals.and(field.eq(value));
+        }
+
+        return condition;
+    }
+
+    /**
+     * The nullable columns of the table, read once from the database metadata.
+     */
+    private Set<String> nullableFields(DSLContext context) {
+        if (this.nullableFields == null) {
+            this.nullableFields = context.meta()
+                .getTables(this.table.getName())
+                .stream()
+                .flatMap(table -> Arrays.stream(table.fields()))
+                .filter(field -> field.getDataType().nullable())
+                .map(Field::getName)
+                .collect(Collectors.toUnmodifiableSet());
+        }
+
+        return this.nullableFields;
+    }
+
+    /**
+     * The sort values and the key of the last record of a page, encoded as base64 json for the api.
+     * Dates are written as text and numbers as numbers, the literals each database compares with its column types.
+     */
+    private record PageCursor(List<Object> values) {
+        private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+
+        private static final DateTimeFormatter OFFSET_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSSxxx");
+
+        static PageCursor of(Record record, List<Field<Object>> fields) {
+            return new PageCursor(fields
+                .stream()
+                .map(field -> literal(record.get(field)))
+                .toList()
+            );
+        }
+
+        private static Object literal(Object value) {
+            if (value instanceof Timestamp timestamp) {
+                return DATE_FORMATTER.format(timestamp.toLocalDateTime());
+            } else if (value instanceof LocalDateTime localDateTime) {
+                return DATE_FORMATTER.format(localDateTime);
+            } else if (value instanceof OffsetDateTime offsetDateTime) {
+                return OFFSET_DATE_FORMATTER.format(offsetDateTime);
+            } else if (value instanceof Number || value instanceof Boolean) {
+                return value;
+            }
+
+            return value.toString();
+        }
+
+        static PageCursor decode(String cursor, int size) {
+            PageCursor pageCursor;
+            try {
+                pageCursor = JacksonMapper.ofJson().readValue(Base64.getUrlDecoder().decode(cursor), PageCursor.class);
+            } catch (IllegalArgumentException | IOException e) {
+                throw new IllegalArgumentException("Invalid cursor '" + cursor + "'", e);
+            }
+
+            if (pageCursor.values() == null ||
+                pageCursor.values().size() != size ||
+                !pageCursor.values().stream().allMatch(value -> value instanceof String || value instanceof Number || value instanceof Boolean)
+            ) {
+                throw new IllegalArgumentException("Invalid cursor '" + cursor + "', it doesn't match the sort");
+            }
+
+            return pageCursor;
+        }
+
+        @SneakyThrows
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(JacksonMapper.ofJson().writeValueAsBytes(this));
+        }
+    }
 
     public <R extends Record> ArrayListTotal<T> fetchPage(DSLContext context, SelectConditionStep<R> select, Pageable pageable) {
         return this.fetchPage(context, select, pageable, this::map);
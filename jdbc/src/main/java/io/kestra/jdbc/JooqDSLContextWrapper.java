@@ -4,10 +4,14 @@ import io.kestra.core.models.tasks.retrys.Random;
 import io.kestra.core.utils.RetryUtils;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import org.jooq.ConnectionProvider;
 import org.jooq.DSLContext;
 import org.jooq.TransactionalCallable;
 import org.jooq.TransactionalRunnable;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConnectionProvider;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.util.function.Predicate;
@@ -67,4 +71,38 @@ public class JooqDSLContextWrapper {
             () -> dslContext.transactionResult(transactional)
         );
     }
+
+    /**
+     * Acquire a connection outside the managed transactions, with auto-commit disabled as some databases only stream
+     * the results inside a transaction. Used for cursors that outlive a callback, the connection must be given back
+     * with {@link #release(Connection)}.
+     */
+    public Connection acquire() throws SQLException {
+        Connection connection = dslContext.configuration().connectionProvider().acquire();
+
+        try {
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            dslContext.configuration().connectionProvider().release(connection);
+            throw e;
+        }
+
+        return connection;
+    }
+
+    public DSLContext using(Connection connection) {
+        return DSL.using(dslContext.configuration().derive(new DefaultConnectionProvider(connection)));
+    }
+
+    public void release(Connection connection) throws SQLException {
+        ConnectionProvider connectionProvider = dslContext.configuration().connectionProvider();
+
+        try {
+            // only used for reads
+            connection.rollback();
+            connection.setAutoCommit(true);
+        } finally {
+            connectionProvider.release(connection);
+        }
+    }
 }
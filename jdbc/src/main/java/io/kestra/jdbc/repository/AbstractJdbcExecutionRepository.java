@@ -16,13 +16,13 @@ import io.kestra.core.repositories.ExecutionRepositoryInterface;
 import io.kestra.core.runners.Executor;
 import io.kestra.core.runners.ExecutorState;
 import io.kestra.core.utils.DateUtils;
+import io.kestra.jdbc.runner.AbstractJdbcExecutionRunningStorage;
 import io.kestra.jdbc.runner.AbstractJdbcExecutorStateStorage;
 import io.kestra.jdbc.runner.JdbcIndexerInterface;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.inject.qualifiers.Qualifiers;
-import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
 import jakarta.inject.Singleton;
 import lombok.SneakyThrows;
@@ -40,11 +40,14 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 import java.util.*;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Singleton
 public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcRepository implements ExecutionRepositoryInterface, JdbcIndexerInterface<Execution> {
+    private static final int FIND_BATCH_SIZE = 100;
+
     protected final io.kestra.jdbc.AbstractJdbcRepository<Execution> jdbcRepository;
     private final ApplicationEventPublisher<CrudEvent<Execution>> eventPublisher;
     private final ApplicationContext applicationContext;
@@ -52,6 +55,10 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
 
     private QueueInterface<Execution> executionQueue;
 
+    private Optional<AbstractJdbcExecutionRunningStorage> executionRunningStorage;
+
+    private Optional<AbstractJdbcExecutionTaskRunStorage> executionTaskRunStorage;
+
     @SuppressWarnings("unchecked")
     public AbstractJdbcExecutionRepository(
         io.kestra.jdbc.AbstractJdbcRepository<Execution> jdbcRepository,
@@ -75,6 +82,57 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         return this.executionQueue;
     }
 
+    // the storage is only available when the JDBC runner is enabled
+    private Optional<AbstractJdbcExecutionRunningStorage> executionRunningStorage() {
+        if (this.executionRunningStorage == null) {
+            this.executionRunningStorage = applicationContext.findBean(AbstractJdbcExecutionRunningStorage.class);
+        }
+
+        return this.executionRunningStorage;
+    }
+
+    // the storage is only available when the task runs are stored on their own table
+    private Optional<AbstractJdbcExecutionTaskRunStorage> executionTaskRunStorage() {
+        if (this.executionTaskRunStorage == null) {
+            this.executionTaskRunStorage = applicationContext.findBean(AbstractJdbcExecutionTaskRunStorage.class);
+        }
+
+        return this.executionTaskRunStorage;
+    }
+
+    private Optional<Execution> withTaskRuns(DSLContext context, Optional<Execution> execution) {
+        return this.executionTaskRunStorage()
+            .flatMap(storage -> execution.map(e -> storage.withTaskRuns(context, e)))
+            .or(() -> execution);
+    }
+
+    private List<Execution> withTaskRuns(DSLContext context, List<Execution> executions) {
+        return this.executionTaskRunStorage()
+            .map(storage -> storage.withTaskRuns(context, executions))
+            .orElse(executions);
+    }
+
+    private ArrayListTotal<Execution> withTaskRuns(DSLContext context, ArrayListTotal<Execution> executions) {
+        return this.executionTaskRunStorage()
+            .map(storage -> executions.withResults(storage.withTaskRuns(context, executions)))
+            .orElse(executions);
+    }
+
+    private void persist(DSLContext context, Execution execution) {
+        Optional<AbstractJdbcExecutionTaskRunStorage> storage = this.executionTaskRunStorage();
+
+        if (storage.isPresent()) {
+            storage.get().save(context, execution);
+            this.jdbcRepository.persist(
+                execution,
+                context,
+                this.jdbcRepository.persistFields(AbstractJdbcExecutionTaskRunStorage.header(execution))
+            );
+        } else {
+            this.jdbcRepository.persist(execution, context, this.jdbcRepository.persistFields(execution));
+        }
+    }
+
     public Boolean isTaskRunEnabled() {
         return false;
     }
@@ -84,14 +142,15 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         return jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
-                Select<Record1<Object>> from = DSL
-                    .using(configuration)
+                DSLContext context = DSL.using(configuration);
+
+                Select<Record1<Object>> from = context
                     .select(field("value"))
                     .from(this.jdbcRepository.getTable())
                     .where(this.defaultFilter(tenantId))
                     .and(field("key").eq(id));
 
-                return this.jdbcRepository.fetchOne(from);
+                return this.withTaskRuns(context, this.jdbcRepository.fetchOne(from));
             });
     }
 
@@ -133,7 +192,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
                     triggerExecutionId
                 );
 
-                return this.jdbcRepository.fetchPage(context, select, pageable);
+                return this.withTaskRuns(context, this.jdbcRepository.fetchPage(context, select, pageable));
             });
     }
 
@@ -149,33 +208,84 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         @Nullable Map<String, String> labels,
         @Nullable String triggerExecutionId
     ) {
-        return Flowable.create(
-            emitter -> this.jdbcRepository
-                .getDslContextWrapper()
-                .transaction(configuration -> {
-                    DSLContext context = DSL.using(configuration);
+        return this.find(query, tenantId, namespace, flowId, startDate, endDate, state, labels, triggerExecutionId, true);
+    }
 
-                    SelectConditionStep<Record1<Object>> select = this.findSelect(
-                        context,
-                        query,
-                        tenantId,
-                        namespace,
-                        flowId,
-                        startDate,
-                        endDate,
-                        state,
-                        labels,
-                        triggerExecutionId
-                    );
+    @Override
+    public Flowable<Execution> find(
+        @Nullable String query,
+        @Nullable String tenantId,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate,
+        @Nullable List<State.Type> state,
+        @Nullable Map<String, String> labels,
+        @Nullable String triggerExecutionId,
+        boolean withTaskRuns
+    ) {
+        // the task runs are only stored apart from the executions with a task run storage, they are loaded by batch
+        BiFunction<DSLContext, List<Execution>, List<Execution>> taskRunsMapper = withTaskRuns && this.executionTaskRunStorage().isPresent() ?
+            this::withTaskRuns :
+            null;
+
+        return this.jdbcRepository.fetchFlowable(
+            context -> this.findSelect(
+                context,
+                query,
+                tenantId,
+                namespace,
+                flowId,
+                startDate,
+                endDate,
+                state,
+                labels,
+                triggerExecutionId
+            ),
+            FIND_BATCH_SIZE,
+            taskRunsMapper
+        );
+    }
 
-                    select.fetch()
-                        .map(this.jdbcRepository::map)
-                        .forEach(emitter::onNext);
+    @Override
+    public List<Execution> findAfter(
+        @Nullable String query,
+        @Nullable String tenantId,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate,
+        @Nullable List<State.Type> state,
+        @Nullable Map<String, String> labels,
+        @Nullable String triggerExecutionId,
+        @Nullable String afterId,
+        int size
+    ) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
 
-                    emitter.onComplete();
-                }),
-            BackpressureStrategy.BUFFER
-        );
+                SelectConditionStep<Record1<Object>> select = this.findSelect(
+                    context,
+                    query,
+                    tenantId,
+                    namespace,
+                    flowId,
+                    startDate,
+                    endDate,
+                    state,
+                    labels,
+                    triggerExecutionId
+                );
+
+                // keyset on the primary key, each chunk is an index range scan whatever the number of previous chunks
+                if (afterId != null) {
+                    select = select.and(field("key").greaterThan(afterId));
+                }
+
+                return this.withTaskRuns(context, this.jdbcRepository.fetch(select.orderBy(field("key").asc()).limit(size)));
+            });
     }
 
     private SelectConditionStep<Record1<Object>> findSelect(
@@ -229,7 +339,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
                     .and(field("namespace").eq(namespace))
                     .and(field("flow_id").eq(id));
 
-                return this.jdbcRepository.fetchPage(context, select, pageable);
+                return this.withTaskRuns(context, this.jdbcRepository.fetchPage(context, select, pageable));
             });
     }
 
@@ -246,7 +356,21 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         @Nullable Map<String, String> labels,
         @Nullable String triggerExecutionId
     ) {
-        throw new UnsupportedOperationException();
+        throw this.taskRunQueriesUnsupported();
+    }
+
+    /**
+     * The task run search and statistics are not available, and can't be read from the executions when their task
+     * runs are stored on their own table: the executions then only keep an empty task run list.
+     */
+    private UnsupportedOperationException taskRunQueriesUnsupported() {
+        if (this.executionTaskRunStorage().isPresent()) {
+            return new UnsupportedOperationException(
+                "The task runs can't be searched when they are stored on their own table, see '" + AbstractJdbcExecutionTaskRunStorage.ENABLED_PROPERTY + "'"
+            );
+        }
+
+        return new UnsupportedOperationException();
     }
 
     @Override
@@ -266,7 +390,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         boolean isTaskRun
     ) {
         if (isTaskRun) {
-            throw new UnsupportedOperationException();
+            throw this.taskRunQueriesUnsupported();
         }
 
         Results results = dailyStatisticsQuery(
@@ -687,7 +811,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
                     .select(cte.field("value"))
                     .from(cte)
                     .where(field("row_num").eq(1));
-                return mainQuery.fetch().map(this.jdbcRepository::map);
+                return this.withTaskRuns(context, mainQuery.fetch().map(this.jdbcRepository::map));
             });
     }
 
@@ -695,16 +819,16 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
 
     @Override
     public Execution save(Execution execution) {
-        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(execution);
-        this.jdbcRepository.persist(execution, fields);
-
-        return execution;
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> this.save(DSL.using(configuration), execution));
     }
 
     @Override
     public Execution save(DSLContext dslContext, Execution execution) {
-        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(execution);
-        this.jdbcRepository.persist(execution, dslContext, fields);
+        this.persist(dslContext, execution);
+
+        this.executionRunningStorage().ifPresent(storage -> storage.save(dslContext, execution));
 
         return execution;
     }
@@ -719,8 +843,14 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
 
         Execution deleted = execution.toDeleted();
 
-        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(deleted);
-        this.jdbcRepository.persist(deleted, fields);
+        this.jdbcRepository
+            .getDslContextWrapper()
+            .transaction(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                this.persist(context, deleted);
+                this.executionRunningStorage().ifPresent(storage -> storage.delete(context, deleted));
+            });
 
         executionQueue().emit(deleted);
 
@@ -729,9 +859,73 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         return deleted;
     }
 
+    @Override
+    public List<Execution> deleteAll(List<Execution> executions) {
+        List<Execution> deleted = executions
+            .stream()
+            .map(Execution::toDeleted)
+            .toList();
+
+        this.jdbcRepository
+            .getDslContextWrapper()
+            .transaction(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                Optional<AbstractJdbcExecutionTaskRunStorage> storage = this.executionTaskRunStorage();
+                List<Query> queries = new ArrayList<>();
+                for (Execution execution : deleted) {
+                    storage.ifPresent(s -> s.save(context, execution));
+                    queries.add(this.jdbcRepository.updateQuery(
+                        execution,
+                        context,
+                        this.jdbcRepository.persistFields(storage.isPresent() ? AbstractJdbcExecutionTaskRunStorage.header(execution) : execution)
+                    ));
+                }
+
+                context.batch(queries).execute();
+
+                this.executionRunningStorage().ifPresent(s -> s.delete(context, deleted));
+            });
+
+        executionQueue().emitAll(deleted);
+
+        deleted.forEach(execution -> eventPublisher.publishEvent(new CrudEvent<>(execution, CrudEventType.DELETE)));
+
+        return deleted;
+    }
+
     @Override
     public Integer purge(Execution execution) {
-        return this.jdbcRepository.delete(execution);
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                this.executionRunningStorage().ifPresent(storage -> storage.delete(context, execution));
+                this.executionTaskRunStorage().ifPresent(storage -> storage.delete(context, execution));
+
+                return this.jdbcRepository.delete(context, execution);
+            });
+    }
+
+    @Override
+    public Integer purge(List<Execution> executions) {
+        if (executions.isEmpty()) {
+            return 0;
+        }
+
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                this.executionRunningStorage().ifPresent(storage -> storage.delete(context, executions));
+                this.executionTaskRunStorage().ifPresent(storage -> storage.delete(context, executions));
+
+                return context.delete(this.jdbcRepository.getTable())
+                    .where(field("key").in(executions.stream().map(this.jdbcRepository::key).toList()))
+                    .execute();
+            });
     }
 
     public Executor lock(String executionId, Function<Pair<Execution, ExecutorState>, Pair<Executor, ExecutorState>> function) {
@@ -747,7 +941,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
                     .and(this.defaultFilter())
                     .forUpdate();
 
-                Optional<Execution> execution = this.jdbcRepository.fetchOne(from);
+                Optional<Execution> execution = this.withTaskRuns(context, this.jdbcRepository.fetchOne(from));
 
                 // not ready for now, skip and wait for a first state
                 if (execution.isEmpty()) {
@@ -758,9 +952,15 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
                 Pair<Executor, ExecutorState> pair = function.apply(Pair.of(execution.get(), executorState));
 
                 if (pair != null) {
-                    this.jdbcRepository.persist(pair.getKey().getExecution(), context, null);
+                    Execution updated = pair.getKey().getExecution();
+                    this.persist(context, updated);
                     this.executorStateStorage.save(context, pair.getRight());
 
+                    // only a change of running status must update the running executions
+                    if (AbstractJdbcExecutionRunningStorage.isRunning(execution.get()) != AbstractJdbcExecutionRunningStorage.isRunning(updated)) {
+                        this.executionRunningStorage().ifPresent(storage -> storage.save(context, updated));
+                    }
+
                     return pair.getKey();
                 }
 
@@ -0,0 +1,158 @@
+package io.kestra.jdbc.repository;
+
+import com.google.common.hash.Hashing;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.jdbc.JdbcMapper;
+import lombok.SneakyThrows;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record3;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Store the task runs of the executions in their own table, so only the task runs that changed are written instead
+ * of the whole execution. The execution row then only keeps the header of the execution, with an empty task run list.
+ * <p>
+ * Executions saved before are read as is until their next save, but once enabled it can't be disabled as the task
+ * runs would no longer be read.
+ * <p>
+ * The queries on the task runs of the execution rows, the task run search and statistics, would find nothing: they
+ * are rejected by the execution repository while this storage is enabled.
+ */
+public abstract class AbstractJdbcExecutionTaskRunStorage extends AbstractJdbcRepository {
+    public static final String ENABLED_PROPERTY = "kestra.jdbc.executions.separate-taskruns";
+
+    protected io.kestra.jdbc.AbstractJdbcRepository<TaskRun> jdbcRepository;
+
+    public AbstractJdbcExecutionTaskRunStorage(io.kestra.jdbc.AbstractJdbcRepository<TaskRun> jdbcRepository) {
+        this.jdbcRepository = jdbcRepository;
+    }
+
+    /**
+     * @return the execution to store in the executions table, an empty task run list means that the task runs are
+     * stored on this table.
+     */
+    public static Execution header(Execution execution) {
+        if (execution.getTaskRunList() == null) {
+            return execution;
+        }
+
+        return execution.withTaskRunList(List.of());
+    }
+
+    /**
+     * Upsert the task runs that changed since the last save and delete the ones removed from the execution.
+     */
+    public void save(DSLContext context, Execution execution) {
+        if (execution.getTaskRunList() == null) {
+            return;
+        }
+
+        Map<String, Record3<Object, Object, Object>> stored = new HashMap<>();
+        context
+            .select(field("key"), field("position"), field("hash"))
+            .from(this.jdbcRepository.getTable())
+            .where(field("execution_id").eq(execution.getId()))
+            .fetch()
+            .forEach(record -> stored.put((String) record.value1(), record));
+
+        Set<String> keys = new HashSet<>();
+
+        for (int position = 0; position < execution.getTaskRunList().size(); position++) {
+            TaskRun taskRun = execution.getTaskRunList().get(position);
+            String key = this.jdbcRepository.key(taskRun);
+            String hash = hash(taskRun);
+
+            keys.add(key);
+
+            Record3<Object, Object, Object> current = stored.get(key);
+            if (current != null &&
+                hash.equals(current.value3()) &&
+                current.value2() instanceof Number number && number.intValue() == position
+            ) {
+                continue;
+            }
+
+            Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(taskRun);
+            fields.put(field("position"), position);
+            fields.put(field("hash"), hash);
+
+            this.jdbcRepository.persist(taskRun, context, fields);
+        }
+
+        List<String> removed = stored.keySet()
+            .stream()
+            .filter(key -> !keys.contains(key))
+            .toList();
+
+        if (!removed.isEmpty()) {
+            context
+                .delete(this.jdbcRepository.getTable())
+                .where(field("key").in(removed))
+                .execute();
+        }
+    }
+
+    public void delete(DSLContext context, List<Execution> executions) {
+        context
+            .delete(this.jdbcRepository.getTable())
+            .where(field("execution_id").in(executions.stream().map(Execution::getId).toList()))
+            .execute();
+    }
+
+    public void delete(DSLContext context, Execution execution) {
+        context
+            .delete(this.jdbcRepository.getTable())
+            .where(field("execution_id").eq(execution.getId()))
+            .execute();
+    }
+
+    public Execution withTaskRuns(DSLContext context, Execution execution) {
+        return this.withTaskRuns(context, List.of(execution)).get(0);
+    }
+
+    /**
+     * Fill the task runs of the executions with a single query.
+     * Executions without stored task runs are kept as is, as they were saved before this storage was enabled.
+     */
+    public List<Execution> withTaskRuns(DSLContext context, List<Execution> executions) {
+        List<String> ids = executions
+            .stream()
+            .filter(execution -> execution.getTaskRunList() != null)
+            .map(Execution::getId)
+            .toList();
+
+        if (ids.isEmpty()) {
+            return executions;
+        }
+
+        Map<String, List<TaskRun>> taskRuns = this.jdbcRepository
+            .fetch(context
+                .select(field("value"))
+                .from(this.jdbcRepository.getTable())
+                .where(field("execution_id").in(ids))
+                .orderBy(field("execution_id"), field("position"))
+            )
+            .stream()
+            .collect(Collectors.groupingBy(TaskRun::getExecutionId));
+
+        return executions
+            .stream()
+            .map(execution -> taskRuns.containsKey(execution.getId()) ?
+                execution.withTaskRunList(taskRuns.get(execution.getId())) :
+                execution
+            )
+            .collect(Collectors.toList());
+    }
+
+    @SneakyThrows
+    private static String hash(TaskRun taskRun) {
+        return Hashing.murmur3_128()
+            .hashString(JdbcMapper.of().writeValueAsString(taskRun), StandardCharsets.UTF_8)
+            .toString();
+    }
+}
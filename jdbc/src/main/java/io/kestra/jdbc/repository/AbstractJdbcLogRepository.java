@@ -15,6 +15,7 @@ import javax.annotation.Nullable;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @Singleton
 public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository implements LogRepositoryInterface, JdbcIndexerInterface<LogEntry> {
@@ -26,6 +27,17 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
 
     abstract protected Condition findCondition(String query);
 
+    /**
+     * Condition to find the logs of an execution, can be enriched to restrict the search on partitioned tables.
+     */
+    protected Condition executionCondition(String executionId) {
+        return field("execution_id").eq(executionId);
+    }
+
+    protected Condition executionsCondition(List<Execution> executions) {
+        return field("execution_id").in(executions.stream().map(Execution::getId).toList());
+    }
+
     public ArrayListTotal<LogEntry> find(
         Pageable pageable,
         @Nullable String query,
@@ -79,7 +91,7 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
     public List<LogEntry> findByExecutionId(String tenantId, String executionId, Level minLevel) {
         return this.query(
             tenantId,
-            field("execution_id").eq(executionId),
+            this.executionCondition(executionId),
             minLevel
         );
     }
@@ -88,7 +100,7 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
     public ArrayListTotal<LogEntry> findByExecutionId(String tenantId, String executionId, Level minLevel, Pageable pageable) {
         return this.query(
             tenantId,
-            field("execution_id").eq(executionId),
+            this.executionCondition(executionId),
             minLevel,
             pageable
         );
@@ -98,7 +110,7 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
     public List<LogEntry> findByExecutionIdAndTaskId(String tenantId, String executionId, String taskId, Level minLevel) {
         return this.query(
             tenantId,
-            field("execution_id").eq(executionId)
+            this.executionCondition(executionId)
                 .and(field("task_id").eq(taskId)),
             minLevel
         );
@@ -107,7 +119,7 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
     public ArrayListTotal<LogEntry> findByExecutionIdAndTaskId(String tenantId, String executionId, String taskId, Level minLevel, Pageable pageable) {
         return this.query(
             tenantId,
-            field("execution_id").eq(executionId)
+            this.executionCondition(executionId)
                 .and(field("task_id").eq(taskId)),
             minLevel,
             pageable
@@ -118,7 +130,7 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
     public List<LogEntry> findByExecutionIdAndTaskRunId(String tenantId, String executionId, String taskRunId, Level minLevel) {
         return this.query(
             tenantId,
-            field("execution_id").eq(executionId)
+            this.executionCondition(executionId)
                 .and(field("taskrun_id").eq(taskRunId)),
             minLevel
         );
@@ -128,7 +140,7 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
     public ArrayListTotal<LogEntry> findByExecutionIdAndTaskRunId(String tenantId, String executionId, String taskRunId, Level minLevel, Pageable pageable) {
         return this.query(
             tenantId,
-            field("execution_id").eq(executionId)
+            this.executionCondition(executionId)
                 .and(field("taskrun_id").eq(taskRunId)),
             minLevel,
             pageable
@@ -139,7 +151,7 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
     public List<LogEntry> findByExecutionIdAndTaskRunIdAndAttempt(String tenantId, String executionId, String taskRunId, Level minLevel, Integer attempt) {
         return this.query(
             tenantId,
-            field("execution_id").eq(executionId)
+            this.executionCondition(executionId)
                 .and(field("taskrun_id").eq(taskRunId))
                 .and(field("attempt_number").eq(attempt)),
             minLevel
@@ -150,7 +162,7 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
     public ArrayListTotal<LogEntry> findByExecutionIdAndTaskRunIdAndAttempt(String tenantId, String executionId, String taskRunId, Level minLevel, Integer attempt, Pageable pageable) {
         return this.query(
             tenantId,
-            field("execution_id").eq(executionId)
+            this.executionCondition(executionId)
                 .and(field("taskrun_id").eq(taskRunId))
                 .and(field("attempt_number").eq(attempt)),
             minLevel,
@@ -158,6 +170,47 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
         );
     }
 
+    @Override
+    public void streamByExecutionId(
+        String tenantId,
+        String executionId,
+        @Nullable String taskId,
+        @Nullable String taskRunId,
+        @Nullable Integer attempt,
+        @Nullable Level minLevel,
+        Consumer<LogEntry> consumer
+    ) {
+        this.jdbcRepository
+            .getDslContextWrapper()
+            .transaction(configuration -> {
+                SelectConditionStep<Record1<Object>> select = DSL
+                    .using(configuration)
+                    .select(field("value"))
+                    .from(this.jdbcRepository.getTable())
+                    .where(this.defaultFilter(tenantId))
+                    .and(this.executionCondition(executionId));
+
+                if (taskId != null) {
+                    select = select.and(field("task_id").eq(taskId));
+                } else if (taskRunId != null) {
+                    select = select.and(field("taskrun_id").eq(taskRunId));
+
+                    if (attempt != null) {
+                        select = select.and(field("attempt_number").eq(attempt));
+                    }
+                }
+
+                if (minLevel != null) {
+                    select = select.and(minLevel(minLevel));
+                }
+
+                this.jdbcRepository.fetchLazy(
+                    select.orderBy(field("timestamp").sort(SortOrder.ASC)),
+                    consumer
+                );
+            });
+    }
+
     @Override
     public LogEntry save(LogEntry log) {
         Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(log);
@@ -174,7 +227,24 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
                 DSLContext context = DSL.using(configuration);
 
                 return context.delete(this.jdbcRepository.getTable())
-                    .where(field("execution_id", String.class).eq(execution.getId()))
+                    .where(this.executionCondition(execution.getId()))
+                    .execute();
+            });
+    }
+
+    @Override
+    public Integer purge(List<Execution> executions) {
+        if (executions.isEmpty()) {
+            return 0;
+        }
+
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                return context.delete(this.jdbcRepository.getTable())
+                    .where(this.executionsCondition(executions))
                     .execute();
             });
     }
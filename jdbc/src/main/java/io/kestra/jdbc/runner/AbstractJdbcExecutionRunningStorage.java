@@ -0,0 +1,130 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.runners.ExecutionRunning;
+import io.kestra.jdbc.JdbcConfiguration;
+import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import io.micronaut.context.ApplicationContext;
+import org.jooq.*;
+import org.jooq.Record;
+import org.jooq.impl.DSL;
+
+import java.util.List;
+
+/**
+ * Keep a row for each execution that counts toward the flow concurrency limit, so the number of running executions of
+ * a flow can be read without aggregating the executions table.
+ * Rows are written in the same transaction as the execution, and writes are idempotent so the same execution can be
+ * saved multiple times.
+ */
+public abstract class AbstractJdbcExecutionRunningStorage extends AbstractJdbcRepository {
+    public static final List<State.Type> RUNNING_STATES = List.of(State.Type.RUNNING, State.Type.PAUSED);
+
+    protected io.kestra.jdbc.AbstractJdbcRepository<ExecutionRunning> jdbcRepository;
+
+    private final Table<Record> executionTable;
+
+    public AbstractJdbcExecutionRunningStorage(
+        io.kestra.jdbc.AbstractJdbcRepository<ExecutionRunning> jdbcRepository,
+        ApplicationContext applicationContext
+    ) {
+        this.jdbcRepository = jdbcRepository;
+        this.executionTable = DSL.table(applicationContext.getBean(JdbcConfiguration.class).tableConfig(Execution.class).getTable());
+    }
+
+    public static boolean isRunning(Execution execution) {
+        return !execution.isDeleted() && RUNNING_STATES.contains(execution.getState().getCurrent());
+    }
+
+    public void save(DSLContext context, Execution execution) {
+        if (isRunning(execution)) {
+            this.jdbcRepository.persist(ExecutionRunning.of(execution), context, null);
+        } else {
+            this.delete(context, execution);
+        }
+    }
+
+    public void delete(DSLContext context, List<Execution> executions) {
+        context
+            .delete(this.jdbcRepository.getTable())
+            .where(field("key").in(executions.stream().map(Execution::getId).toList()))
+            .execute();
+    }
+
+    public void delete(DSLContext context, Execution execution) {
+        context
+            .delete(this.jdbcRepository.getTable())
+            .where(field("key").eq(execution.getId()))
+            .execute();
+    }
+
+    public long count(String tenantId, String namespace, String flowId) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> DSL
+                .using(configuration)
+                .fetchCount(DSL
+                    .selectOne()
+                    .from(this.jdbcRepository.getTable())
+                    .where(buildTenantCondition(tenantId))
+                    .and(field("namespace").eq(namespace))
+                    .and(field("flow_id").eq(flowId))
+                )
+            );
+    }
+
+    /**
+     * Reconcile the running executions of a flow with the executions table. Only the differences are written, in a
+     * single transaction: the running executions are inserted from the executions table when missing, and the rows of
+     * executions no longer running are deleted.
+     * The running executions and the rows of the flow are locked first, in the same order as the executor saving an
+     * execution, so a transition saved meanwhile waits for the reconciliation instead of being overwritten.
+     */
+    public void reconcile(String tenantId, String namespace, String flowId) {
+        this.jdbcRepository
+            .getDslContextWrapper()
+            .transaction(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                Condition flow = buildTenantCondition(tenantId)
+                    .and(field("namespace").eq(namespace))
+                    .and(field("flow_id").eq(flowId));
+
+                Condition running = flow
+                    .and(field("deleted", Boolean.class).eq(false))
+                    .and(field("state_current").in(RUNNING_STATES.stream().map(Enum::name).toList()));
+
+                context.select(field("key")).from(this.executionTable).where(running).forUpdate().fetch();
+                context.select(field("key")).from(this.jdbcRepository.getTable()).where(flow).forUpdate().fetch();
+
+                context
+                    .delete(this.jdbcRepository.getTable())
+                    .where(flow)
+                    .and(field("key").notIn(DSL.select(field("key")).from(this.executionTable).where(running)))
+                    .execute();
+
+                context
+                    .insertInto(this.jdbcRepository.getTable(), field("key"), field("value"))
+                    .select(DSL
+                        .select(field("key"), this.value())
+                        .from(this.executionTable)
+                        .where(running)
+                        .and(field("key").notIn(DSL.select(field("key")).from(this.jdbcRepository.getTable())))
+                    )
+                    .execute();
+            });
+    }
+
+    /**
+     * The value of the running execution, built from the columns of the executions table.
+     */
+    protected Field<Object> value() {
+        return DSL.jsonObject(
+            DSL.key("tenantId").value(field("tenant_id")),
+            DSL.key("namespace").value(field("namespace")),
+            DSL.key("flowId").value(field("flow_id")),
+            DSL.key("executionId").value(field("key"))
+        ).coerce(Object.class);
+    }
+}
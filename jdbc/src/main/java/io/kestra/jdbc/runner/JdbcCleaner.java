@@ -12,11 +12,12 @@ import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.jooq.*;
 import org.jooq.Record;
-import org.jooq.Table;
 import org.jooq.impl.DSL;
 
 import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 
 @Singleton
@@ -39,18 +40,46 @@ public class JdbcCleaner {
         this.queueTable = DSL.table(jdbcConfiguration.tableConfig("queues").getTable());
     }
 
+    /**
+     * Delete the expired messages by batches, each one on its own transaction, to avoid a long running delete that
+     * locks the queue table.
+     */
     public void deleteQueue() throws QueueException {
-        dslContextWrapper.transaction(configuration -> {
-            int deleted = DSL
-                .using(configuration)
+        OffsetDateTime before = ZonedDateTime.now().minus(this.configuration.getRetention()).toOffsetDateTime();
+        int total = 0;
+        int deleted;
+
+        do {
+            deleted = dslContextWrapper.transactionResult(configuration -> this.deleteBatch(
+                DSL.using(configuration),
+                AbstractJdbcRepository.field("updated").lessOrEqual(before)
+            ));
+
+            total += deleted;
+        } while (deleted >= this.configuration.getBatchSize());
+
+        log.info("Cleaned {} records from {}", total, this.queueTable.getName());
+    }
+
+    private int deleteBatch(DSLContext context, Condition condition) {
+        if (context.dialect() == SQLDialect.POSTGRES) {
+            // Postgres doesn't support a limit on delete
+            return context
                 .delete(this.queueTable)
-                .where(
-                    AbstractJdbcRepository.field("updated")
-                        .lessOrEqual(ZonedDateTime.now().minus(this.configuration.getRetention()).toOffsetDateTime())
-                )
+                .where(AbstractJdbcRepository.field("offset").in(context
+                    .select(AbstractJdbcRepository.field("offset"))
+                    .from(this.queueTable)
+                    .where(condition)
+                    .limit(this.configuration.getBatchSize())
+                ))
                 .execute();
-            log.info("Cleaned {} records from {}", deleted, this.queueTable.getName());
-        });
+        }
+
+        return context
+            .delete(this.queueTable)
+            .where(condition)
+            .limit(this.configuration.getBatchSize())
+            .execute();
     }
 
     @Scheduled(initialDelay = "${kestra.jdbc.cleaner.initial-delay}", fixedDelay = "${kestra.jdbc.cleaner.fixed-delay}")
@@ -62,5 +91,6 @@ public class JdbcCleaner {
     @Getter
     public static class Configuration {
         Duration retention;
+        Integer batchSize = 10000;
     }
 }
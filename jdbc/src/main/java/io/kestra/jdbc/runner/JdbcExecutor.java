@@ -49,8 +49,11 @@ import org.slf4j.event.Level;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.*;
 import java.util.stream.Collectors;
@@ -99,6 +102,9 @@ public class JdbcExecutor implements ExecutorInterface {
     @Inject
     private TaskDefaultService taskDefaultService;
 
+    @Inject
+    private FlowCache flowCache;
+
     @Inject
     private Optional<Template.TemplateExecutorInterface> templateExecutorInterface;
 
@@ -136,6 +142,9 @@ public class JdbcExecutor implements ExecutorInterface {
     @Inject
     private AbstractJdbcExecutorStateStorage executorStateStorage;
 
+    @Inject
+    private AbstractJdbcExecutionRunningStorage executionRunningStorage;
+
     @Inject
     private FlowTopologyService flowTopologyService;
 
@@ -163,6 +172,12 @@ public class JdbcExecutor implements ExecutorInterface {
     @Value("${kestra.heartbeat.frequency}")
     private Duration frequency;
 
+    @Value("${kestra.jdbc.executor.concurrency-reconciliation-interval:PT5M}")
+    private Duration concurrencyReconciliationInterval;
+
+    @Value("${kestra.jdbc.executor.multiple-condition-purge-interval:PT1M}")
+    private Duration multipleConditionPurgeInterval;
+
     @Inject
     @Named(QueueFactoryInterface.KILL_NAMED)
     protected QueueInterface<ExecutionKilled> killQueue;
@@ -200,6 +215,30 @@ public class JdbcExecutor implements ExecutorInterface {
             TimeUnit.SECONDS
         );
 
+        // a zero or negative interval disables the reconciliation
+        if (concurrencyReconciliationInterval.toSeconds() > 0) {
+            schedulerHeartbeat.scheduleAtFixedRate(
+                this::reconcileConcurrencyLimit,
+                0,
+                concurrencyReconciliationInterval.toSeconds(),
+                TimeUnit.SECONDS
+            );
+        } else {
+            log.warn("The reconciliation of the running executions is disabled, the interval is '{}'", concurrencyReconciliationInterval);
+        }
+
+        // a zero or negative interval disables the purge, the expired windows are then kept
+        if (multipleConditionPurgeInterval.toMillis() > 0) {
+            schedulerHeartbeat.scheduleAtFixedRate(
+                this::purgeExpiredMultipleConditionWindows,
+                multipleConditionPurgeInterval.toMillis(),
+                multipleConditionPurgeInterval.toMillis(),
+                TimeUnit.MILLISECONDS
+            );
+        } else {
+            log.warn("The purge of the expired multiple condition windows is disabled, the interval is '{}'", multipleConditionPurgeInterval);
+        }
+
         // look at exception on the main thread
         Thread schedulerDelayThread = new Thread(
             () -> {
@@ -316,6 +355,44 @@ public class JdbcExecutor implements ExecutorInterface {
         });
     }
 
+    /**
+     * The running executions used for the concurrency limit are maintained on each execution save, this reconciles them
+     * with the executions table for the flows with a concurrency limit, for example for executions started before the
+     * flow had one.
+     */
+    private void reconcileConcurrencyLimit() {
+        try {
+            allFlows
+                .stream()
+                .filter(flow -> flow.getConcurrency() != null && !(flow instanceof FlowWithException))
+                .forEach(flow -> {
+                    ExecutionCount count = executionRepository.executionCounts(
+                        flow.getTenantId(),
+                        List.of(new io.kestra.core.models.executions.statistics.Flow(flow.getNamespace(), flow.getId())),
+                        AbstractJdbcExecutionRunningStorage.RUNNING_STATES,
+                        null,
+                        null
+                    ).get(0);
+
+                    if (count.getCount() != executionRunningStorage.count(flow.getTenantId(), flow.getNamespace(), flow.getId())) {
+                        log.debug("Reconcile running executions of flow '{}'.'{}'", flow.getNamespace(), flow.getId());
+
+                        executionRunningStorage.reconcile(flow.getTenantId(), flow.getNamespace(), flow.getId());
+                    }
+                });
+        } catch (Exception e) {
+            log.warn("Unable to reconcile the running executions", e);
+        }
+    }
+
+    private void purgeExpiredMultipleConditionWindows() {
+        try {
+            flowTriggerService.purgeExpiredMultipleConditionWindows(allFlows, multipleConditionStorage);
+        } catch (Exception e) {
+            log.warn("Unable to purge the expired multiple condition windows", e);
+        }
+    }
+
     private void executionQueue(Either<Execution, DeserializationException> either) {
         if (either.isRight()) {
             log.error("Unable to deserialize an execution: {}", either.getRight().getMessage());
@@ -332,20 +409,14 @@ public class JdbcExecutor implements ExecutorInterface {
             Execution execution = pair.getLeft();
             ExecutorState executorState = pair.getRight();
 
-            final Flow flow = transform(this.flowRepository.findByExecution(execution), execution);
+            final Flow flow = this.findFlow(execution);
             Executor executor = new Executor(execution, null).withFlow(flow);
 
             // queue execution if needed (limit concurrency)
             if (execution.getState().getCurrent() == State.Type.CREATED && flow.getConcurrency() != null) {
-                ExecutionCount count = executionRepository.executionCounts(
-                    flow.getTenantId(),
-                    List.of(new io.kestra.core.models.executions.statistics.Flow(flow.getNamespace(), flow.getId())),
-                    List.of(State.Type.RUNNING, State.Type.PAUSED),
-                    null,
-                    null
-                ).get(0);
+                long count = executionRunningStorage.count(flow.getTenantId(), flow.getNamespace(), flow.getId());
 
-                executor = executorService.checkConcurrencyLimit(executor, flow, execution, count.getCount());
+                executor = executorService.checkConcurrencyLimit(executor, flow, execution, count);
 
                 // the execution has been queued, we save the queued execution and stops here
                 if (executor.getExecutionQueued() != null) {
@@ -386,30 +457,34 @@ public class JdbcExecutor implements ExecutorInterface {
                     .filter(workerTask -> this.deduplicateWorkerTask(execution, executorState, workerTask.getTaskRun()))
                     .toList();
 
-                // WorkerTask not flowable to workerTask
+                // WorkerTask not flowable to workerTask, batched by worker group
+                Map<String, List<WorkerJob>> workerTasksByGroup = new LinkedHashMap<>();
                 workerTasksDedup
                     .stream()
                     .filter(workerTask -> workerTask.getTask().isSendToWorkerTask())
-                    .forEach(workerTask -> workerTaskQueue.emit(workerGroupService.resolveGroupFromJob(workerTask), workerTask));
+                    .forEach(workerTask -> workerTasksByGroup
+                        .computeIfAbsent(workerGroupService.resolveGroupFromJob(workerTask), s -> new ArrayList<>())
+                        .add(workerTask)
+                    );
+                workerTasksByGroup.forEach(workerTaskQueue::emitAll);
 
                 // WorkerTask flowable to workerTaskResult as Running
-                workerTasksDedup
+                workerTaskResultQueue.emitAll(workerTasksDedup
                     .stream()
                     .filter(workerTask -> workerTask.getTask().isFlowable())
                     .map(workerTask -> new WorkerTaskResult(workerTask.withTaskRun(workerTask.getTaskRun().withState(State.Type.RUNNING))))
-                    .forEach(workerTaskResultQueue::emit);
+                    .toList()
+                );
             }
 
             // worker tasks results
             if (!executor.getWorkerTaskResults().isEmpty()) {
-                executor.getWorkerTaskResults()
-                    .forEach(workerTaskResultQueue::emit);
+                workerTaskResultQueue.emitAll(executor.getWorkerTaskResults());
             }
 
             // subflow execution results
             if (!executor.getSubflowExecutionResults().isEmpty()) {
-                executor.getSubflowExecutionResults()
-                    .forEach(subflowExecutionResultQueue::emit);
+                subflowExecutionResultQueue.emitAll(executor.getSubflowExecutionResults());
             }
 
             // schedulerDelay
@@ -459,8 +534,9 @@ public class JdbcExecutor implements ExecutorInterface {
                 conditionService.isTerminatedWithListeners(flow, execution) &&
                     this.deduplicateFlowTrigger(execution, executorState)
             ) {
-                flowTriggerService.computeExecutionsFromFlowTriggers(execution, allFlows, Optional.of(multipleConditionStorage))
-                    .forEach(this.executionQueue::emit);
+                this.executionQueue.emitAll(
+                    flowTriggerService.computeExecutionsFromFlowTriggers(execution, allFlows, Optional.of(multipleConditionStorage))
+                );
             }
 
             // when terminated: handle queued executions and subflow executions
@@ -497,7 +573,7 @@ public class JdbcExecutor implements ExecutorInterface {
     }
 
     private void sendSubflowExecutionResult(Execution execution, SubflowExecution<?> subflowExecution, TaskRun taskRun) {
-        Flow workerTaskFlow = this.flowRepository.findByExecution(execution);
+        Flow workerTaskFlow = this.findFlow(execution);
 
         ExecutableTask<?> executableTask = subflowExecution.getParentTask();
 
@@ -551,7 +627,7 @@ public class JdbcExecutor implements ExecutorInterface {
 
             if (execution.hasTaskRunJoinable(message.getTaskRun())) {
                 try {
-                    Flow flow = flowRepository.findByExecution(current.getExecution());
+                    Flow flow = this.findFlow(current.getExecution());
 
                     // dynamic tasks
                     Execution newExecution = executorService.addDynamicTaskRun(
@@ -637,7 +713,7 @@ public class JdbcExecutor implements ExecutorInterface {
 
             if (execution.hasTaskRunJoinable(message.getParentTaskRun())) { // TODO if we remove this check, we can avoid adding 'iteration' on the 'isSame()' method
                 try {
-                    Flow flow = flowRepository.findByExecution(current.getExecution());
+                    Flow flow = this.findFlow(current.getExecution());
 
                     // iterative tasks
                     Task task = flow.findTaskByTaskId(message.getParentTaskRun().getTaskId());
@@ -760,6 +836,15 @@ public class JdbcExecutor implements ExecutorInterface {
         }
     }
 
+    private Flow findFlow(Execution execution) {
+        return flowCache.get(
+            execution,
+            () -> this.flowRepository.findByExecution(execution),
+            taskDefaultService::injectDefaults,
+            flow -> transform(flow, execution)
+        );
+    }
+
     private Flow transform(Flow flow, Execution execution) {
         if (templateExecutorInterface.isPresent()) {
             try {
@@ -871,7 +956,7 @@ public class JdbcExecutor implements ExecutorInterface {
         Execution.FailedExecutionWithLog failedExecutionWithLog = executor.getExecution().failedExecutionFromExecutor(e);
 
         try {
-            failedExecutionWithLog.getLogs().forEach(logQueue::emitAsync);
+            logQueue.emitAll(failedExecutionWithLog.getLogs());
         } catch (Exception ex) {
             log.error("Failed to produce {}", e.getMessage(), ex);
         }
@@ -1,9 +1,9 @@
 package io.kestra.jdbc.runner;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.CaseFormat;
 import io.kestra.core.exceptions.DeserializationException;
+import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.queues.QueueException;
 import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.queues.QueueService;
@@ -17,6 +17,7 @@ import io.kestra.jdbc.repository.AbstractJdbcRepository;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.transaction.exceptions.CannotCreateTransactionException;
+import io.micrometer.core.instrument.DistributionSummary;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +29,7 @@ import javax.sql.DataSource;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -60,6 +62,10 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
 
     protected final JdbcQueueIndexer jdbcQueueIndexer;
 
+    protected final JdbcQueueCodec codec;
+
+    private final DistributionSummary messageSize;
+
     protected Boolean isShutdown = false;
 
     public JdbcQueue(Class<T> cls, ApplicationContext applicationContext) {
@@ -79,6 +85,17 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         this.table = DSL.table(jdbcConfiguration.tableConfig("queues").getTable());
 
         this.jdbcQueueIndexer = applicationContext.getBean(JdbcQueueIndexer.class);
+
+        this.codec = this.configuration.getCodecs().getOrDefault(
+            CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_HYPHEN, cls.getSimpleName()),
+            JdbcQueueCodec.JSON
+        );
+
+        this.messageSize = applicationContext.getBean(MetricRegistry.class).summary(
+            MetricRegistry.JDBC_QUEUE_MESSAGE_SIZE,
+            MetricRegistry.TAG_QUEUE_TYPE, this.queueName(cls),
+            MetricRegistry.TAG_CODEC, this.codec.name().toLowerCase()
+        );
     }
 
     @SneakyThrows
@@ -86,7 +103,18 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         Map<Field<Object>, Object> fields = new HashMap<>();
         fields.put(AbstractJdbcRepository.field("type"), this.cls.getName());
         fields.put(AbstractJdbcRepository.field("key"), key != null ? key : IdUtils.create());
-        fields.put(AbstractJdbcRepository.field("value"), JSONB.valueOf(mapper.writeValueAsString(message)));
+
+        if (this.codec == JdbcQueueCodec.JSON) {
+            String json = mapper.writeValueAsString(message);
+            this.messageSize.record(json.length());
+
+            fields.put(AbstractJdbcRepository.field("value"), JSONB.valueOf(json));
+        } else {
+            byte[] bytes = this.codec.encode(message, this.configuration.getCompressionThreshold());
+            this.messageSize.record(bytes.length);
+
+            fields.put(AbstractJdbcRepository.field("value_bytes"), bytes);
+        }
 
         if (consumerGroup != null) {
             fields.put(AbstractJdbcRepository.field("consumer_group"), consumerGroup);
@@ -111,6 +139,41 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
                 .insertInto(table)
                 .set(this.produceFields(consumerGroup, key, message))
                 .execute();
+
+            this.produceNotify(context);
+        });
+    }
+
+    /**
+     * Called inside the produce transaction, after the insert, to let implementations wake up consumers.
+     */
+    protected void produceNotify(DSLContext context) {
+
+    }
+
+    private void produceAll(String consumerGroup, List<T> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        if (log.isTraceEnabled()) {
+            log.trace("New messages: topic '{}', count {}", this.cls.getName(), messages.size());
+        }
+
+        dslContextWrapper.transaction(configuration -> {
+            DSLContext context = DSL.using(configuration);
+
+            InsertSetMoreStep<Record> insert = null;
+            for (T message : messages) {
+                jdbcQueueIndexer.accept(context, message);
+
+                Map<Field<Object>, Object> fields = this.produceFields(consumerGroup, queueService.key(message), message);
+                insert = insert == null ? context.insertInto(table).set(fields) : insert.newRecord().set(fields);
+            }
+
+            insert.execute();
+
+            this.produceNotify(context);
         });
     }
 
@@ -123,6 +186,11 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         this.produce(consumerGroup, queueService.key(message), message, false);
     }
 
+    @Override
+    public void emitAll(String consumerGroup, List<T> messages) {
+        this.produceAll(consumerGroup, messages);
+    }
+
     @Override
     public void emitAsync(String consumerGroup, T message) throws QueueException {
         this.emit(consumerGroup, message);
@@ -138,6 +206,14 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         );
     }
 
+    /**
+     * The table where the messages of this queue are read, allowing implementations to target only a part of the
+     * queue table.
+     */
+    protected Table<Record> readTable() {
+        return this.table;
+    }
+
     abstract protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, Integer offset);
 
     abstract protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType);
@@ -153,7 +229,7 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
             Integer integer = DSL
                 .using(configuration)
                 .select(DSL.max(AbstractJdbcRepository.field("offset")).as("max"))
-                .from(table)
+                .from(this.readTable())
                 .fetchAny("max", Integer.class);
 
             if (integer != null) {
@@ -256,8 +332,11 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
 
         poolExecutor.execute(() -> {
             while (running.get() && !this.isShutdown) {
+                long wakeup = this.pollWakeup();
+                int count = 0;
+
                 try {
-                    Integer count = runnable.get();
+                    count = runnable.get();
                     if (count > 0) {
                         lastPoll.set(ZonedDateTime.now());
                     }
@@ -273,7 +352,7 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
                 }
 
                 try {
-                    Thread.sleep(sleep.get());
+                    this.pollWait(wakeup, count, sleep.get());
                 } catch (InterruptedException e) {
                     throw new RuntimeException(e);
                 }
@@ -285,13 +364,37 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         };
     }
 
+    /**
+     * Marker taken before each poll and handed back to {@link #pollWait(long, int, long)}, allowing implementations
+     * to detect messages produced while the poll was running.
+     */
+    protected long pollWakeup() {
+        return 0L;
+    }
+
+    /**
+     * Wait before the next poll, by default a plain sleep of the current poll interval.
+     */
+    protected void pollWait(long wakeup, int count, long sleep) throws InterruptedException {
+        Thread.sleep(sleep);
+    }
+
     protected List<Either<T, DeserializationException>> map(Result<Record> fetch) {
         return fetch
             .map(record -> {
+                byte[] bytes = record.get("value_bytes", byte[].class);
+
                 try {
-                    return Either.left(JacksonMapper.ofJson().readValue(record.get("value", String.class), cls));
-                } catch (JsonProcessingException e) {
-                    return Either.right(new DeserializationException(e, record.get("value", String.class)));
+                    if (bytes != null) {
+                        return Either.left(JdbcQueueCodec.decode(bytes, cls));
+                    }
+
+                    return Either.left(mapper.readValue(record.get("value", String.class), cls));
+                } catch (IOException e) {
+                    return Either.right(new DeserializationException(
+                        e,
+                        bytes != null ? Base64.getEncoder().encodeToString(bytes) : record.get("value", String.class)
+                    ));
                 }
             });
     }
@@ -319,5 +422,15 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         Duration maxPollInterval = Duration.ofMillis(500);
         Duration pollSwitchInterval = Duration.ofSeconds(30);
         Integer pollSize = 100;
+
+        /**
+         * The codec by queue type, as the hyphenated class name (<code>worker-job</code>), JSON by default.
+         */
+        Map<String, JdbcQueueCodec> codecs = new HashMap<>();
+
+        /**
+         * The size in bytes above which the binary messages are compressed, never compressed if not set.
+         */
+        Integer compressionThreshold;
     }
 }
@@ -0,0 +1,80 @@
+package io.kestra.jdbc.runner;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.kestra.core.serializers.JacksonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization of the queue messages. JSON messages are stored on the <code>value</code> column, the other ones on
+ * the <code>value_bytes</code> column, prefixed by a header byte with the codec and the compression used, so messages
+ * can always be read whatever the codec currently configured.
+ */
+public enum JdbcQueueCodec {
+    JSON((byte) 0, JacksonMapper.ofJson()),
+    SMILE((byte) 1, JacksonMapper.ofJson().copyWith(new SmileFactory())),
+    CBOR((byte) 2, JacksonMapper.ofJson().copyWith(new CBORFactory()));
+
+    private static final byte COMPRESSED = (byte) 0x80;
+
+    private final byte id;
+    private final ObjectMapper mapper;
+
+    JdbcQueueCodec(byte id, ObjectMapper mapper) {
+        this.id = id;
+        this.mapper = mapper;
+    }
+
+    /**
+     * @param compressionThreshold the size in bytes above which the message is gzipped, never compressed if null
+     */
+    public byte[] encode(Object message, Integer compressionThreshold) throws IOException {
+        byte[] bytes = this.mapper.writeValueAsBytes(message);
+
+        if (compressionThreshold != null && bytes.length > compressionThreshold) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 2);
+            output.write(this.id | COMPRESSED);
+
+            try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+                gzip.write(bytes);
+            }
+
+            return output.toByteArray();
+        }
+
+        byte[] result = new byte[bytes.length + 1];
+        result[0] = this.id;
+        System.arraycopy(bytes, 0, result, 1, bytes.length);
+
+        return result;
+    }
+
+    public static <T> T decode(byte[] bytes, Class<T> cls) throws IOException {
+        if (bytes.length == 0) {
+            throw new IOException("Empty message");
+        }
+
+        byte header = bytes[0];
+        JdbcQueueCodec codec = Arrays.stream(values())
+            .filter(value -> value.id == (header & ~COMPRESSED))
+            .findFirst()
+            .orElseThrow(() -> new IOException("Unknown codec " + (header & ~COMPRESSED)));
+
+        InputStream input = new ByteArrayInputStream(bytes, 1, bytes.length - 1);
+        if ((header & COMPRESSED) != 0) {
+            input = new GZIPInputStream(input);
+        }
+
+        try (input) {
+            return codec.mapper.readValue(input, cls);
+        }
+    }
+}
@@ -66,7 +66,10 @@ public class JdbcScheduler extends AbstractScheduler {
                         // reset scheduler trigger at end
                         triggerRepository
                             .findByExecution(execution)
-                            .ifPresent(trigger -> triggerRepository.save(trigger.resetExecution()));
+                            .ifPresent(trigger -> {
+                                triggerRepository.save(trigger.resetExecution());
+                                this.wakeup(trigger.uid());
+                            });
                     } else {
                         // update execution state on each state change so the scheduler knows the execution is running
                         triggerRepository
@@ -0,0 +1,66 @@
+package io.kestra.jdbc.repository;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.flows.State;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.data.model.Pageable;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Property(name = AbstractJdbcExecutionTaskRunStorage.ENABLED_PROPERTY, value = StringUtils.TRUE)
+public abstract class AbstractJdbcExecutionRepositorySeparateTaskRunsTest extends AbstractJdbcExecutionRepositoryTest {
+    @Test
+    void separateTaskRuns() throws Exception {
+        Execution execution = builder(State.Type.RUNNING, null).build();
+        executionRepository.save(execution);
+
+        Optional<Execution> full = executionRepository.findById(null, execution.getId());
+        assertThat(full.isPresent(), is(true));
+        assertThat(full.get().getTaskRunList().stream().map(TaskRun::getId).toList(), is(execution.getTaskRunList().stream().map(TaskRun::getId).toList()));
+
+        // update a task run
+        TaskRun updated = execution.getTaskRunList().get(1).withState(State.Type.SUCCESS);
+        executionRepository.save(execution.withTaskRun(updated));
+
+        full = executionRepository.findById(null, execution.getId());
+        assertThat(full.isPresent(), is(true));
+        assertThat(full.get().getTaskRunList().size(), is(3));
+        assertThat(full.get().getTaskRunList().get(1).getState().getCurrent(), is(State.Type.SUCCESS));
+
+        // remove a task run
+        executionRepository.save(execution.withTaskRunList(List.of(execution.getTaskRunList().get(0))));
+
+        full = executionRepository.findById(null, execution.getId());
+        assertThat(full.isPresent(), is(true));
+        assertThat(full.get().getTaskRunList().size(), is(1));
+
+        // purge
+        executionRepository.purge(execution);
+        assertThat(executionRepository.findById(null, execution.getId()).isPresent(), is(false));
+    }
+
+    @Test
+    void taskRunQueriesRejected() {
+        UnsupportedOperationException e = assertThrows(
+            UnsupportedOperationException.class,
+            () -> executionRepository.findTaskRun(Pageable.from(1, 10), null, null, null, null, null, null, null, null, null)
+        );
+        assertThat(e.getMessage(), containsString(AbstractJdbcExecutionTaskRunStorage.ENABLED_PROPERTY));
+
+        e = assertThrows(
+            UnsupportedOperationException.class,
+            () -> executionRepository.dailyStatistics(null, null, null, null, ZonedDateTime.now().minusDays(10), ZonedDateTime.now(), null, true)
+        );
+        assertThat(e.getMessage(), containsString(AbstractJdbcExecutionTaskRunStorage.ENABLED_PROPERTY));
+    }
+}
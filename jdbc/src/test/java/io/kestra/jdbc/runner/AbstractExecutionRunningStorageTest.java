@@ -0,0 +1,123 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.runners.ExecutionRunning;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcTestUtils;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import io.kestra.jdbc.repository.AbstractJdbcExecutionRepository;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+
+@MicronautTest(transactional = false)
+public abstract class AbstractExecutionRunningStorageTest {
+    @Inject
+    AbstractJdbcExecutionRunningStorage executionRunningStorage;
+
+    @Inject
+    AbstractJdbcExecutionRepository executionRepository;
+
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Inject
+    JooqDSLContextWrapper dslContextWrapper;
+
+    private static Execution execution(State.Type state) {
+        return Execution.builder()
+            .id(IdUtils.create())
+            .namespace("io.kestra.unittest")
+            .flowId("concurrency")
+            .flowRevision(1)
+            .state(new State().withState(state))
+            .build();
+    }
+
+    @Test
+    void count() {
+        Execution running = execution(State.Type.RUNNING);
+        Execution paused = execution(State.Type.PAUSED);
+        Execution created = execution(State.Type.CREATED);
+
+        executionRepository.save(running);
+        executionRepository.save(paused);
+        executionRepository.save(created);
+        assertThat(executionRunningStorage.count(null, "io.kestra.unittest", "concurrency"), is(2L));
+
+        // saving twice is idempotent
+        executionRepository.save(running);
+        assertThat(executionRunningStorage.count(null, "io.kestra.unittest", "concurrency"), is(2L));
+
+        executionRepository.save(running.withState(State.Type.SUCCESS));
+        assertThat(executionRunningStorage.count(null, "io.kestra.unittest", "concurrency"), is(1L));
+
+        executionRepository.save(created.withState(State.Type.RUNNING));
+        assertThat(executionRunningStorage.count(null, "io.kestra.unittest", "concurrency"), is(2L));
+
+        // a deleted execution releases its slot
+        Execution deleted = execution(State.Type.RUNNING);
+        executionRepository.save(deleted);
+        assertThat(executionRunningStorage.count(null, "io.kestra.unittest", "concurrency"), is(3L));
+        executionRepository.delete(deleted);
+        assertThat(executionRunningStorage.count(null, "io.kestra.unittest", "concurrency"), is(2L));
+
+        executionRepository.deleteAll(List.of(executionRepository.findById(null, created.getId()).orElseThrow()));
+        assertThat(executionRunningStorage.count(null, "io.kestra.unittest", "concurrency"), is(1L));
+        executionRepository.save(created.withState(State.Type.RUNNING));
+
+        executionRepository.purge(paused);
+        assertThat(executionRunningStorage.count(null, "io.kestra.unittest", "concurrency"), is(1L));
+        assertThat(executionRunningStorage.count(null, "io.kestra.unittest", "other"), is(0L));
+    }
+
+    @Test
+    void reconcile() {
+        Execution running = execution(State.Type.RUNNING);
+        Execution paused = execution(State.Type.PAUSED);
+        Execution success = execution(State.Type.SUCCESS);
+
+        executionRepository.save(running);
+        executionRepository.save(paused);
+        executionRepository.save(success);
+        assertThat(executionRunningStorage.count(null, "io.kestra.unittest", "concurrency"), is(2L));
+
+        // out of sync with the executions table: a missing running execution and a stale terminated one
+        dslContextWrapper.transaction(configuration -> {
+            DSLContext context = DSL.using(configuration);
+
+            executionRunningStorage.delete(context, running);
+            executionRunningStorage.jdbcRepository.persist(ExecutionRunning.of(success), context, null);
+        });
+        assertThat(executionRunningStorage.count(null, "io.kestra.unittest", "concurrency"), is(2L));
+
+        executionRunningStorage.reconcile(null, "io.kestra.unittest", "concurrency");
+
+        // the inserted row is the same as the one saved by the executor
+        assertThat(this.running(), containsInAnyOrder(ExecutionRunning.of(running), ExecutionRunning.of(paused)));
+    }
+
+    private List<ExecutionRunning> running() {
+        return dslContextWrapper.transactionResult(configuration -> executionRunningStorage.jdbcRepository.fetch(
+            DSL.using(configuration)
+                .select(DSL.field(DSL.quotedName("value")))
+                .from(executionRunningStorage.jdbcRepository.getTable())
+        ));
+    }
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+    }
+}
@@ -0,0 +1,44 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.State;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JdbcQueueCodecTest {
+    private static Execution execution() {
+        return Execution.builder()
+            .id("id")
+            .namespace("io.kestra.tests")
+            .flowId("flow")
+            .flowRevision(1)
+            .state(new State())
+            .variables(Map.of("large", "a".repeat(10000)))
+            .build();
+    }
+
+    @Test
+    void encode() throws IOException {
+        Execution execution = execution();
+
+        for (JdbcQueueCodec codec : JdbcQueueCodec.values()) {
+            byte[] bytes = codec.encode(execution, null);
+            assertThat(JdbcQueueCodec.decode(bytes, Execution.class), is(execution));
+
+            byte[] compressed = codec.encode(execution, 1024);
+            assertThat(compressed.length, lessThan(bytes.length));
+            assertThat(JdbcQueueCodec.decode(compressed, Execution.class), is(execution));
+        }
+    }
+
+    @Test
+    void unknown() {
+        assertThrows(IOException.class, () -> JdbcQueueCodec.decode(new byte[]{42, 1, 2}, Execution.class));
+    }
+}
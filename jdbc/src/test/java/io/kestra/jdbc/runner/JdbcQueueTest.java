@@ -14,6 +14,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -134,6 +135,23 @@ abstract public class JdbcQueueTest {
         assertThat(namespace.get(), is("io.kestra.f2"));
     }
 
+    @Test
+    void emitAll() throws InterruptedException {
+        CountDownLatch countDownLatch = new CountDownLatch(3);
+
+        flowQueue.receive(Indexer.class, either -> countDownLatch.countDown());
+
+        flowQueue.emitAll(List.of(
+            builder("io.kestra.f1"),
+            builder("io.kestra.f2"),
+            builder("io.kestra.f3")
+        ));
+
+        countDownLatch.await(5, TimeUnit.SECONDS);
+
+        assertThat(countDownLatch.getCount(), is(0L));
+    }
+
     private static Flow builder(String namespace) {
         return Flow.builder()
             .id(IdUtils.create())
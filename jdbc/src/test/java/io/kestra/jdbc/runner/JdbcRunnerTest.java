@@ -275,6 +275,11 @@ public abstract class JdbcRunnerTest {
         forEachItemCaseTest.forEachItemNoWait();
     }
 
+    @RetryingTest(5)
+    void forEachItemWindow() throws URISyntaxException, IOException, InterruptedException, TimeoutException {
+        forEachItemCaseTest.forEachItemWindow();
+    }
+
     @Test
     void forEachItemFailed() throws URISyntaxException, IOException, InterruptedException, TimeoutException {
         forEachItemCaseTest.forEachItemFailed();
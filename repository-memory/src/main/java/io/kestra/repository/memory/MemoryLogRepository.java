@@ -12,6 +12,8 @@ import javax.annotation.Nullable;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Singleton
@@ -67,6 +69,29 @@ public class MemoryLogRepository implements LogRepositoryInterface {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public void streamByExecutionId(
+        String tenantId,
+        String executionId,
+        @Nullable String taskId,
+        @Nullable String taskRunId,
+        @Nullable Integer attempt,
+        @Nullable Level minLevel,
+        Consumer<LogEntry> consumer
+    ) {
+        List<String> levels = LogEntry.findLevelsByMin(minLevel);
+
+        logs
+            .stream()
+            .filter(logEntry -> logEntry.getExecutionId().equals(executionId))
+            .filter(logEntry -> Objects.equals(tenantId, logEntry.getTenantId()))
+            .filter(logEntry -> taskId == null || taskId.equals(logEntry.getTaskId()))
+            .filter(logEntry -> taskRunId == null || taskRunId.equals(logEntry.getTaskRunId()))
+            .filter(logEntry -> attempt == null || attempt.equals(logEntry.getAttemptNumber()))
+            .filter(logEntry -> levels.contains(logEntry.getLevel().name()))
+            .forEach(consumer);
+    }
+
     @Override
     public ArrayListTotal<LogEntry> find(
         Pageable pageable,
@@ -122,6 +122,19 @@ public class MemoryExecutor implements ExecutorInterface {
         this.workerTaskResultQueue.receive(MemoryExecutor.class, this::workerTaskResultQueue);
         this.killQueue.receive(MemoryExecutor.class, this::killQueue);
         this.subflowExecutionResultQueue.receive(Executor.class, this::subflowExecutionResultQueue);
+
+        schedulerDelay.scheduleAtFixedRate(
+            () -> {
+                try {
+                    flowTriggerService.purgeExpiredMultipleConditionWindows(allFlows, multipleConditionStorage);
+                } catch (Exception e) {
+                    log.warn("Unable to purge the expired multiple condition windows", e);
+                }
+            },
+            1,
+            1,
+            TimeUnit.MINUTES
+        );
     }
 
     private void executionQueue(Either<Execution, DeserializationException> either) {
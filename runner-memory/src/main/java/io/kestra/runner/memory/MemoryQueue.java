@@ -89,6 +89,11 @@ public class MemoryQueue<T> implements QueueInterface<T> {
         this.produce(queueService.key(message), message);
     }
 
+    @Override
+    public void emitAll(String consumerGroup, List<T> messages) {
+        messages.forEach(message -> this.produce(queueService.key(message), message));
+    }
+
     @Override
     public void emitAsync(String consumerGroup, T message) throws QueueException {
         this.emit(message);
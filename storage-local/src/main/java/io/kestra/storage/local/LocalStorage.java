@@ -8,6 +8,8 @@ import org.apache.commons.io.FileUtils;
 
 import java.io.*;
 import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collections;
@@ -51,6 +53,19 @@ public class LocalStorage implements StorageInterface {
         );
     }
 
+    @Override
+    public InputStream get(String tenantId, URI uri, long offset) throws IOException {
+        Path path = getPath(tenantId, uri);
+        if (!Files.exists(path)) {
+            throw new FileNotFoundException(path + " (No such file or directory)");
+        }
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        channel.position(offset);
+
+        return new BufferedInputStream(Channels.newInputStream(channel));
+    }
+
     @Override
     public List<URI> allByPrefix(String tenantId, URI prefix, boolean includeDirectories) throws IOException {
         Path fsPath = getPath(tenantId, prefix);
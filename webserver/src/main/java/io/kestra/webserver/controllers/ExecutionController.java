@@ -31,8 +31,11 @@ import io.kestra.core.tenant.TenantService;
 import io.kestra.core.utils.Await;
 import io.kestra.core.utils.GraphUtils;
 import io.kestra.webserver.responses.BulkErrorResponse;
+import io.kestra.webserver.responses.BulkOperation;
 import io.kestra.webserver.responses.BulkResponse;
 import io.kestra.webserver.responses.PagedResults;
+import io.kestra.webserver.services.BulkOperationService;
+import io.kestra.webserver.services.ExecutionStreamingService;
 import io.kestra.webserver.utils.PageableUtils;
 import io.kestra.webserver.utils.RequestUtils;
 import io.kestra.webserver.utils.filepreview.FileRender;
@@ -51,6 +54,7 @@ import io.micronaut.http.sse.Event;
 import io.micronaut.scheduling.TaskExecutors;
 import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.micronaut.validation.Validated;
+import io.reactivex.BackpressureOverflowStrategy;
 import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
 import io.reactivex.Single;
@@ -132,6 +136,12 @@ public class ExecutionController {
     @Inject
     private TenantService tenantService;
 
+    @Inject
+    private ExecutionStreamingService executionStreamingService;
+
+    @Inject
+    private BulkOperationService bulkOperationService;
+
     @ExecuteOn(TaskExecutors.IO)
     @Get(uri = "/search", produces = MediaType.TEXT_JSON)
     @Operation(tags = {"Executions"}, summary = "Search for executions")
@@ -146,10 +156,12 @@ public class ExecutionController {
         @Parameter(description = "The end datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime endDate,
         @Parameter(description = "A state filter") @Nullable @QueryValue List<State.Type> state,
         @Parameter(description = "A labels filter as a list of 'key:value'") @Nullable @QueryValue List<String> labels,
-        @Parameter(description = "The trigger execution id") @Nullable @QueryValue String triggerExecutionId
+        @Parameter(description = "The trigger execution id") @Nullable @QueryValue String triggerExecutionId,
+        @Parameter(description = "The cursor of the previous page, to fetch the next one instead of the page number") @Nullable @QueryValue String cursor,
+        @Parameter(description = "The maximum number of results to count, the total is capped when reached") @Nullable @QueryValue Integer countLimit
     ) {
         return PagedResults.of(executionRepository.find(
-            PageableUtils.from(page, size, sort, executionRepository.sortMapping()),
+            PageableUtils.from(page, size, sort, executionRepository.sortMapping(), cursor, countLimit),
             query,
             tenantService.resolveTenant(),
             namespace,
@@ -308,27 +320,13 @@ public class ExecutionController {
         @Parameter(description = "A state filter") @Nullable @QueryValue List<State.Type> state,
         @Parameter(description = "A labels filter as a list of 'key:value'") @Nullable @QueryValue List<String> labels,
         @Parameter(description = "The trigger execution id") @Nullable @QueryValue String triggerExecutionId
-    ) {
-        Integer count = executionRepository
-            .find(
-                query,
-                tenantService.resolveTenant(),
-                namespace,
-                flowId,
-                startDate,
-                endDate,
-                state,
-                RequestUtils.toMap(labels),
-                triggerExecutionId
-            )
-            .map(e -> {
-                executionRepository.delete(e);
-                return 1;
-            })
-            .reduce(Integer::sum)
-            .blockingGet();
+    ) throws Exception {
+        BulkOperation operation = bulkOperationService.run(
+            BulkOperation.Type.DELETE,
+            this.chunks(query, namespace, flowId, startDate, endDate, state, labels, triggerExecutionId)
+        );
 
-        return HttpResponse.ok(BulkResponse.builder().count(count).build());
+        return HttpResponse.ok(BulkResponse.builder().count(operation.getCount()).build());
     }
 
 
@@ -499,19 +497,9 @@ public class ExecutionController {
 
         return Single
             .<Execution>create(emitter -> {
-                Runnable receive = this.executionQueue.receive(either -> {
-                    if (either.isRight()) {
-                        log.error("Unable to deserialize the execution: {}", either.getRight().getMessage());
-                        return;
-                    }
-
-                    Execution item = either.getLeft();
-                    if (item.getId().equals(current.getId())) {
-                        Flow flow = flowRepository.findByExecution(current);
-
-                        if (this.isStopFollow(flow, item)) {
-                            emitter.onSuccess(item);
-                        }
+                Runnable receive = this.executionStreamingService.subscribeExecution(current.getId(), item -> {
+                    if (this.isStopFollow(found, item)) {
+                        emitter.onSuccess(item);
                     }
                 });
 
@@ -689,29 +677,13 @@ public class ExecutionController {
         @Parameter(description = "A state filter") @Nullable @QueryValue List<State.Type> state,
         @Parameter(description = "A labels filter as a list of 'key:value'") @Nullable @QueryValue List<String> labels,
         @Parameter(description = "The trigger execution id") @Nullable @QueryValue String triggerExecutionId
-    ) {
-        Integer count = executionRepository
-            .find(
-                query,
-                tenantService.resolveTenant(),
-                namespace,
-                flowId,
-                startDate,
-                endDate,
-                state,
-                RequestUtils.toMap(labels),
-                triggerExecutionId
-            )
-            .map(e -> {
-                Execution restart = executionService.restart(e, null);
-                executionQueue.emit(restart);
-                eventPublisher.publishEvent(new CrudEvent<>(restart, CrudEventType.UPDATE));
-                return 1;
-            })
-            .reduce(Integer::sum)
-            .blockingGet();
+    ) throws Exception {
+        BulkOperation operation = bulkOperationService.run(
+            BulkOperation.Type.RESTART,
+            this.chunks(query, namespace, flowId, startDate, endDate, state, labels, triggerExecutionId)
+        );
 
-        return HttpResponse.ok(BulkResponse.builder().count(count).build());
+        return HttpResponse.ok(BulkResponse.builder().count(operation.getCount()).build());
     }
 
     @ExecuteOn(TaskExecutors.IO)
@@ -923,7 +895,8 @@ public class ExecutionController {
                 endDate,
                 state,
                 RequestUtils.toMap(labels),
-                triggerExecutionId
+                triggerExecutionId,
+                false
             )
             .map(execution -> execution.getId())
             .toList()
@@ -932,6 +905,80 @@ public class ExecutionController {
         return killByIds(ids);
     }
 
+    @ExecuteOn(TaskExecutors.IO)
+    @Post(uri = "/bulk/{type}/by-query", produces = MediaType.TEXT_JSON)
+    @Operation(
+        tags = {"Executions"},
+        summary = "Submit a bulk operation on the executions filter by query parameters",
+        description = "The executions are processed in the background by chunks, the returned operation can be followed with its id."
+    )
+    @ApiResponse(responseCode = "202", description = "On success", content = {@Content(schema = @Schema(implementation = BulkOperation.class))})
+    public HttpResponse<BulkOperation> bulkByQuery(
+        @Parameter(description = "The operation to apply") @PathVariable BulkOperation.Type type,
+        @Parameter(description = "A string filter") @Nullable @QueryValue(value = "q") String query,
+        @Parameter(description = "A namespace filter prefix") @Nullable @QueryValue String namespace,
+        @Parameter(description = "A flow id filter") @Nullable @QueryValue String flowId,
+        @Parameter(description = "The start datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime startDate,
+        @Parameter(description = "The end datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime endDate,
+        @Parameter(description = "A state filter") @Nullable @QueryValue List<State.Type> state,
+        @Parameter(description = "A labels filter as a list of 'key:value'") @Nullable @QueryValue List<String> labels,
+        @Parameter(description = "The trigger execution id") @Nullable @QueryValue String triggerExecutionId
+    ) {
+        BulkOperation operation = bulkOperationService.submit(
+            type,
+            this.chunks(query, namespace, flowId, startDate, endDate, state, labels, triggerExecutionId)
+        );
+
+        return HttpResponse.accepted().body(operation);
+    }
+
+    @ExecuteOn(TaskExecutors.IO)
+    @Get(uri = "/bulk", produces = MediaType.TEXT_JSON)
+    @Operation(tags = {"Executions"}, summary = "List the bulk operations submitted to this server")
+    public List<BulkOperation> bulkOperations() {
+        return bulkOperationService.list();
+    }
+
+    @ExecuteOn(TaskExecutors.IO)
+    @Get(uri = "/bulk/{operationId}", produces = MediaType.TEXT_JSON)
+    @Operation(tags = {"Executions"}, summary = "Get the progress of a bulk operation")
+    public HttpResponse<BulkOperation> bulkOperation(
+        @Parameter(description = "The bulk operation id") @PathVariable String operationId
+    ) {
+        return bulkOperationService.get(operationId)
+            .map(HttpResponse::ok)
+            .orElse(HttpResponse.notFound());
+    }
+
+    private BulkOperationService.Chunks chunks(
+        @Nullable String query,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate,
+        @Nullable List<State.Type> state,
+        @Nullable List<String> labels,
+        @Nullable String triggerExecutionId
+    ) {
+        // resolved now, as the chunks can be fetched outside the request
+        String tenantId = tenantService.resolveTenant();
+        Map<String, String> labelsMap = RequestUtils.toMap(labels);
+
+        return (afterId, size) -> executionRepository.findAfter(
+            query,
+            tenantId,
+            namespace,
+            flowId,
+            startDate,
+            endDate,
+            state,
+            labelsMap,
+            triggerExecutionId,
+            afterId,
+            size
+        );
+    }
+
     private boolean isStopFollow(Flow flow, Execution execution) {
         return conditionService.isTerminatedWithListeners(flow, execution) &&
             execution.getState().getCurrent() != State.Type.PAUSED;
@@ -964,26 +1011,19 @@ public class ExecutionController {
                 emitter.onNext(Event.of(execution).id("progress"));
 
                 // consume new value
-                Runnable receive = this.executionQueue.receive(either -> {
-                    if (either.isRight()) {
-                        log.error("Unable to deserialize the execution: {}", either.getRight().getMessage());
-                        return;
-                    }
-
-                    Execution current = either.getLeft();
-                    if (current.getId().equals(executionId)) {
-
-                        emitter.onNext(Event.of(current).id("progress"));
+                Runnable receive = this.executionStreamingService.subscribeExecution(executionId, current -> {
+                    emitter.onNext(Event.of(current).id("progress"));
 
-                        if (this.isStopFollow(flow, current)) {
-                            emitter.onNext(Event.of(current).id("end"));
-                            emitter.onComplete();
-                        }
+                    if (this.isStopFollow(flow, current)) {
+                        emitter.onNext(Event.of(current).id("end"));
+                        emitter.onComplete();
                     }
                 });
 
                 cancel.set(receive);
-            }, BackpressureStrategy.BUFFER)
+            }, BackpressureStrategy.MISSING)
+            // bounded buffer for slow clients, the last execution is always the most up to date
+            .onBackpressureBuffer(ExecutionStreamingService.EXECUTION_BUFFER_SIZE, null, BackpressureOverflowStrategy.DROP_OLDEST)
             .doOnCancel(() -> {
                 if (cancel.get() != null) {
                     cancel.get().run();
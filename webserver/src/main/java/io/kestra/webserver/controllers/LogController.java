@@ -6,6 +6,8 @@ import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.repositories.LogRepositoryInterface;
 import io.kestra.core.tenant.TenantService;
 import io.kestra.webserver.responses.PagedResults;
+import io.kestra.webserver.services.ExecutionStreamingService;
+import io.kestra.webserver.utils.DownloadPipe;
 import io.kestra.webserver.utils.PageableUtils;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.Nullable;
@@ -20,25 +22,38 @@ import io.micronaut.http.sse.Event;
 import io.micronaut.scheduling.TaskExecutors;
 import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.micronaut.validation.Validated;
+import io.reactivex.BackpressureOverflowStrategy;
 import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
+import lombok.extern.slf4j.Slf4j;
 import org.slf4j.event.Level;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStream;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
+import static io.kestra.core.utils.Rethrow.throwConsumer;
+
+@Slf4j
 @Validated
 @Controller("/api/v1/")
 @Requires(beans = LogRepositoryInterface.class)
 public class LogController {
+    private static final int DOWNLOAD_BUFFER_SIZE = 64 * 1024;
+
+    // a client that doesn't read anything during this delay is considered gone, the logs cursor is then released
+    private static final Duration DOWNLOAD_WRITE_TIMEOUT = Duration.ofMinutes(1);
+
     @Inject
     private LogRepositoryInterface logRepository;
 
@@ -49,6 +64,13 @@ public class LogController {
     @Inject
     private TenantService tenantService;
 
+    @Inject
+    private ExecutionStreamingService executionStreamingService;
+
+    @Inject
+    @Named(TaskExecutors.IO)
+    private ExecutorService ioExecutorService;
+
     @ExecuteOn(TaskExecutors.IO)
     @Get(uri = "logs/search", produces = MediaType.TEXT_JSON)
     @Operation(tags = {"Logs"}, summary = "Search for logs")
@@ -61,10 +83,12 @@ public class LogController {
         @Parameter(description = "A flow id filter") @Nullable @QueryValue String flowId,
         @Parameter(description = "The min log level filter") @Nullable @QueryValue Level minLevel,
         @Parameter(description = "The start datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime startDate,
-        @Parameter(description = "The end datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime endDate
+        @Parameter(description = "The end datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime endDate,
+        @Parameter(description = "The cursor of the previous page, to fetch the next one instead of the page number") @Nullable @QueryValue String cursor,
+        @Parameter(description = "The maximum number of results to count, the total is capped when reached") @Nullable @QueryValue Integer countLimit
     ) {
         return PagedResults.of(
-            logRepository.find(PageableUtils.from(page, size, sort), query, tenantService.resolveTenant(), namespace, flowId, minLevel, startDate, endDate)
+            logRepository.find(PageableUtils.from(page, size, sort, null, cursor, countLimit), query, tenantService.resolveTenant(), namespace, flowId, minLevel, startDate, endDate)
         );
     }
 
@@ -98,21 +122,41 @@ public class LogController {
         @Parameter(description = "The min log level filter") @Nullable @QueryValue Level minLevel,
         @Parameter(description = "The taskrun id") @Nullable @QueryValue String taskRunId,
         @Parameter(description = "The task id") @Nullable @QueryValue String taskId,
-        @Parameter(description = "The attempt number") @Nullable @QueryValue Integer attempt
-    ) {
-        List<LogEntry> logEntries;
-        if (taskId != null) {
-            logEntries = logRepository.findByExecutionIdAndTaskId(tenantService.resolveTenant(), executionId, taskId, minLevel);
-        } else if (taskRunId != null) {
-            if (attempt != null) {
-                logEntries = logRepository.findByExecutionIdAndTaskRunIdAndAttempt(tenantService.resolveTenant(), executionId, taskRunId, minLevel, attempt);
-            } else {
-                logEntries = logRepository.findByExecutionIdAndTaskRunId(tenantService.resolveTenant(), executionId, taskRunId, minLevel);
+        @Parameter(description = "The attempt number") @Nullable @QueryValue Integer attempt,
+        @Parameter(description = "Compress the logs with gzip") @QueryValue(defaultValue = "false") boolean gzip
+    ) throws IOException {
+        String tenantId = tenantService.resolveTenant();
+
+        // logs are written to the pipe from another thread as they are read from the repository,
+        // the pipe buffer bounds the memory used whatever the number of logs
+        DownloadPipe inputStream = new DownloadPipe(DOWNLOAD_BUFFER_SIZE, DOWNLOAD_WRITE_TIMEOUT);
+
+        ioExecutorService.execute(() -> {
+            try {
+                OutputStream pipe = inputStream.output();
+                Writer writer = new BufferedWriter(new OutputStreamWriter(gzip ? new GZIPOutputStream(pipe, DOWNLOAD_BUFFER_SIZE) : pipe, StandardCharsets.UTF_8));
+                AtomicBoolean first = new AtomicBoolean(true);
+
+                logRepository.streamByExecutionId(tenantId, executionId, taskId, taskRunId, attempt, minLevel, throwConsumer(logEntry -> {
+                    if (!first.compareAndSet(true, false)) {
+                        writer.write("\n");
+                    }
+
+                    writer.write(logEntry.toPrettyString());
+                }));
+
+                // only closed on success, a failure must not end the download as a complete file
+                writer.close();
+            } catch (Exception e) {
+                log.warn("Unable to download the logs of execution '{}'", executionId, e);
+                inputStream.fail(e);
             }
-        } else {
-            logEntries = logRepository.findByExecutionId(tenantService.resolveTenant(), executionId, minLevel);
+        });
+
+        if (gzip) {
+            return new StreamedFile(inputStream, MediaType.of("application/gzip")).attach(executionId + ".log.gz");
         }
-        InputStream inputStream = new ByteArrayInputStream(logEntries.stream().map(LogEntry::toPrettyString).collect(Collectors.joining("\n")).getBytes());
+
         return new StreamedFile(inputStream, MediaType.TEXT_PLAIN_TYPE).attach(executionId + ".log");
     }
 
@@ -135,21 +179,16 @@ public class LogController {
                     .forEach(logEntry -> emitter.onNext(Event.of(logEntry).id("progress")));
 
                 // consume in realtime
-                Runnable receive = this.logQueue.receive(either -> {
-                    if (either.isRight()) {
-                        return;
-                    }
-
-                    LogEntry current = either.getLeft();
-                    if (current.getExecutionId() != null && current.getExecutionId().equals(executionId)) {
-                        if (levels.contains(current.getLevel().name())) {
-                            emitter.onNext(Event.of(current).id("progress"));
-                        }
+                Runnable receive = this.executionStreamingService.subscribeLog(executionId, current -> {
+                    if (levels.contains(current.getLevel().name())) {
+                        emitter.onNext(Event.of(current).id("progress"));
                     }
                 });
 
                 cancel.set(receive);
-            }, BackpressureStrategy.BUFFER)
+            }, BackpressureStrategy.MISSING)
+            // bounded buffer for slow clients
+            .onBackpressureBuffer(ExecutionStreamingService.LOG_BUFFER_SIZE, null, BackpressureOverflowStrategy.DROP_OLDEST)
             .doOnCancel(() -> {
                 if (cancel.get() != null) {
                     cancel.get().run();
@@ -47,10 +47,12 @@ public class TaskRunController {
         @Parameter(description = "The end datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime endDate,
         @Parameter(description = "A state filter") @Nullable @QueryValue List<State.Type> state,
         @Parameter(description = "A labels filter as a list of 'key:value'") @Nullable @QueryValue List<String> labels,
-        @Parameter(description = "The trigger execution id") @Nullable @QueryValue String triggerExecutionId
+        @Parameter(description = "The trigger execution id") @Nullable @QueryValue String triggerExecutionId,
+        @Parameter(description = "The cursor of the previous page, to fetch the next one instead of the page number") @Nullable @QueryValue String cursor,
+        @Parameter(description = "The maximum number of results to count, the total is capped when reached") @Nullable @QueryValue Integer countLimit
     ) {
         return PagedResults.of(executionRepository.findTaskRun(
-            PageableUtils.from(page, size, sort, executionRepository.sortMapping()),
+            PageableUtils.from(page, size, sort, executionRepository.sortMapping(), cursor, countLimit),
             query,
             tenantService.resolveTenant(),
             namespace,
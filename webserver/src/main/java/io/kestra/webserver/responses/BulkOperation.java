@@ -0,0 +1,51 @@
+package io.kestra.webserver.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@SuperBuilder(toBuilder = true)
+@Getter
+@NoArgsConstructor
+public class BulkOperation {
+    String id;
+    Type type;
+    State state;
+    Integer count;
+    Integer errors;
+    String lastError;
+    Instant submitted;
+    Instant started;
+    Instant ended;
+
+    /**
+     * @return the number of executions processed by second since the start of the operation
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    public Double getThroughput() {
+        if (this.started == null || this.count == null) {
+            return null;
+        }
+
+        long millis = Duration.between(this.started, this.ended != null ? this.ended : Instant.now()).toMillis();
+
+        return millis == 0 ? null : this.count * 1000D / millis;
+    }
+
+    public enum Type {
+        DELETE,
+        RESTART,
+        KILL
+    }
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        SUCCESS,
+        FAILED
+    }
+}
@@ -17,9 +17,17 @@ public class PagedResults<T> {
     @NotNull
     private long total;
 
+    @JsonInclude
+    private boolean totalCapped;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String next;
+
     private PagedResults(ArrayListTotal<T> results) {
         this.results = results;
         this.total = results.getTotal();
+        this.totalCapped = results.isTotalCapped();
+        this.next = results.getNext();
     }
 
     public static <T> PagedResults<T> of(ArrayListTotal<T> results) {
@@ -0,0 +1,291 @@
+package io.kestra.webserver.services;
+
+import com.google.common.util.concurrent.RateLimiter;
+import io.kestra.core.events.CrudEvent;
+import io.kestra.core.events.CrudEventType;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.ExecutionKilled;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.repositories.ExecutionRepositoryInterface;
+import io.kestra.core.services.ExecutionService;
+import io.kestra.core.utils.ExecutorsUtils;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.webserver.responses.BulkOperation;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Run the bulk operations on executions by chunks: each chunk is a keyset query on the execution id, followed by a
+ * batched update and a batched emit on the queues, so a large operation neither holds a transaction open nor floods
+ * the queues one message at a time.
+ * Submitted operations are processed in the background, with a limited number of operations at the same time and a
+ * maximum number of executions by second shared by all of them. They are kept in memory on the webserver that
+ * received them until the retention is reached.
+ */
+@Singleton
+@Slf4j
+@SuppressWarnings("UnstableApiUsage")
+public class BulkOperationService {
+    private final ExecutionRepositoryInterface executionRepository;
+
+    private final ExecutionService executionService;
+
+    private final QueueInterface<Execution> executionQueue;
+
+    private final QueueInterface<ExecutionKilled> killQueue;
+
+    private final ApplicationEventPublisher<CrudEvent<Execution>> eventPublisher;
+
+    private final ExecutorService executorService;
+
+    private final RateLimiter rateLimiter;
+
+    private final int chunkSize;
+
+    private final Duration retention;
+
+    private final Map<String, BulkOperation> operations = new ConcurrentHashMap<>();
+
+    @Inject
+    public BulkOperationService(
+        ExecutionRepositoryInterface executionRepository,
+        ExecutionService executionService,
+        @Named(QueueFactoryInterface.EXECUTION_NAMED) QueueInterface<Execution> executionQueue,
+        @Named(QueueFactoryInterface.KILL_NAMED) QueueInterface<ExecutionKilled> killQueue,
+        ApplicationEventPublisher<CrudEvent<Execution>> eventPublisher,
+        ExecutorsUtils executorsUtils,
+        @Value("${kestra.server.bulk.max-concurrent-operations:2}") int maxConcurrentOperations,
+        @Value("${kestra.server.bulk.max-executions-per-second:1000}") double maxExecutionsPerSecond,
+        @Value("${kestra.server.bulk.chunk-size:500}") int chunkSize,
+        @Value("${kestra.server.bulk.retention:1h}") Duration retention
+    ) {
+        this.executionRepository = executionRepository;
+        this.executionService = executionService;
+        this.executionQueue = executionQueue;
+        this.killQueue = killQueue;
+        this.eventPublisher = eventPublisher;
+        this.executorService = executorsUtils.fixedThreadPool(maxConcurrentOperations, "bulk-operation");
+        this.rateLimiter = RateLimiter.create(maxExecutionsPerSecond);
+        this.chunkSize = chunkSize;
+        this.retention = retention;
+    }
+
+    /**
+     * Submit an operation to be processed in the background, its progress is available with {@link #get(String)}.
+     */
+    public BulkOperation submit(BulkOperation.Type type, Chunks chunks) {
+        this.clean();
+
+        BulkOperation operation = this.create(type);
+        this.operations.put(operation.getId(), operation);
+
+        this.executorService.execute(() -> {
+            try {
+                this.process(operation, chunks, false);
+            } catch (Exception e) {
+                log.warn("Bulk operation {} {} failed", operation.getType(), operation.getId(), e);
+
+                this.operations.computeIfPresent(operation.getId(), (id, current) -> current.toBuilder()
+                    .state(BulkOperation.State.FAILED)
+                    .lastError(e.getMessage())
+                    .ended(Instant.now())
+                    .build()
+                );
+            }
+        });
+
+        return operation;
+    }
+
+    /**
+     * Process an operation in the current thread, the first failure on an execution is thrown to the caller.
+     */
+    public BulkOperation run(BulkOperation.Type type, Chunks chunks) throws Exception {
+        return this.process(this.create(type), chunks, true);
+    }
+
+    public Optional<BulkOperation> get(String id) {
+        return Optional.ofNullable(this.operations.get(id));
+    }
+
+    public List<BulkOperation> list() {
+        this.clean();
+
+        return this.operations
+            .values()
+            .stream()
+            .sorted(Comparator.comparing(BulkOperation::getSubmitted).reversed())
+            .toList();
+    }
+
+    @PreDestroy
+    public void close() {
+        this.executorService.shutdownNow();
+    }
+
+    private BulkOperation create(BulkOperation.Type type) {
+        return BulkOperation.builder()
+            .id(IdUtils.create())
+            .type(type)
+            .state(BulkOperation.State.QUEUED)
+            .count(0)
+            .errors(0)
+            .submitted(Instant.now())
+            .build();
+    }
+
+    /**
+     * @param failFast throw the first failure on an execution, else count it in the operation errors
+     */
+    private BulkOperation process(BulkOperation operation, Chunks chunks, boolean failFast) throws Exception {
+        operation = this.update(operation.toBuilder()
+            .state(BulkOperation.State.RUNNING)
+            .started(Instant.now())
+            .build()
+        );
+
+        String afterId = null;
+        List<Execution> executions;
+
+        do {
+            executions = chunks.find(afterId, this.chunkSize);
+            if (executions.isEmpty()) {
+                break;
+            }
+
+            this.rateLimiter.acquire(executions.size());
+
+            operation = this.update(switch (operation.getType()) {
+                case DELETE -> this.delete(operation, executions);
+                case RESTART -> this.restart(operation, executions, failFast);
+                case KILL -> this.kill(operation, executions, failFast);
+            });
+
+            afterId = executions.get(executions.size() - 1).getId();
+        } while (executions.size() == this.chunkSize);
+
+        return this.update(operation.toBuilder()
+            .state(BulkOperation.State.SUCCESS)
+            .ended(Instant.now())
+            .build()
+        );
+    }
+
+    private BulkOperation delete(BulkOperation operation, List<Execution> executions) {
+        List<Execution> deleted = this.executionRepository.deleteAll(executions);
+
+        return operation.toBuilder()
+            .count(operation.getCount() + deleted.size())
+            .build();
+    }
+
+    private BulkOperation restart(BulkOperation operation, List<Execution> executions, boolean failFast) throws Exception {
+        BulkOperation.BulkOperationBuilder<?, ?> builder = operation.toBuilder();
+        List<Execution> restarts = new ArrayList<>();
+        int errors = 0;
+
+        for (Execution execution : executions) {
+            try {
+                restarts.add(this.executionService.restart(execution, null));
+            } catch (Exception e) {
+                if (failFast) {
+                    // the executions already restarted must still be sent
+                    this.emitRestarts(restarts);
+                    throw e;
+                }
+
+                errors++;
+                builder.lastError("Unable to restart execution " + execution.getId() + ": " + e.getMessage());
+            }
+        }
+
+        this.emitRestarts(restarts);
+
+        return builder
+            .count(operation.getCount() + restarts.size())
+            .errors(operation.getErrors() + errors)
+            .build();
+    }
+
+    private void emitRestarts(List<Execution> restarts) {
+        this.executionQueue.emitAll(restarts);
+        restarts.forEach(restart -> this.eventPublisher.publishEvent(new CrudEvent<>(restart, CrudEventType.UPDATE)));
+    }
+
+    private BulkOperation kill(BulkOperation operation, List<Execution> executions, boolean failFast) throws Exception {
+        BulkOperation.BulkOperationBuilder<?, ?> builder = operation.toBuilder();
+        List<ExecutionKilled> killed = new ArrayList<>();
+        int count = 0;
+        int errors = 0;
+
+        for (Execution execution : executions) {
+            if (execution.getState().isTerminated()) {
+                continue;
+            }
+
+            if (execution.getState().isPaused()) {
+                // Must be resumed and killed, no need to send killing event to the worker as the execution is not executing anything in it.
+                try {
+                    this.executionService.resume(execution, State.Type.KILLING);
+                    count++;
+                } catch (Exception e) {
+                    if (failFast) {
+                        this.killQueue.emitAll(killed);
+                        throw e;
+                    }
+
+                    errors++;
+                    builder.lastError("Unable to kill the paused execution " + execution.getId() + ": " + e.getMessage());
+                }
+            } else {
+                killed.add(ExecutionKilled.builder().executionId(execution.getId()).build());
+            }
+        }
+
+        this.killQueue.emitAll(killed);
+
+        return builder
+            .count(operation.getCount() + count + killed.size())
+            .errors(operation.getErrors() + errors)
+            .build();
+    }
+
+    private BulkOperation update(BulkOperation operation) {
+        // only the submitted operations are tracked
+        this.operations.computeIfPresent(operation.getId(), (id, current) -> operation);
+
+        return operation;
+    }
+
+    private void clean() {
+        Instant limit = Instant.now().minus(this.retention);
+
+        this.operations.values().removeIf(operation -> operation.getEnded() != null && operation.getEnded().isBefore(limit));
+    }
+
+    /**
+     * The executions matched by an operation, ordered by id and starting after the given one.
+     */
+    @FunctionalInterface
+    public interface Chunks {
+        List<Execution> find(@Nullable String afterId, int size);
+    }
+}
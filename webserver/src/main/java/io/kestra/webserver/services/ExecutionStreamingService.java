@@ -0,0 +1,143 @@
+package io.kestra.webserver.services;
+
+import io.kestra.core.exceptions.DeserializationException;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.utils.Either;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Share a single queue subscription per webserver between all the clients following an execution or its logs.
+ * Messages are dispatched to the subscribers of their execution id, so the cost of a follow depends on the number of
+ * matching messages and not on the number of open connections.
+ * The subscription is started with the first subscriber and stopped with the last one.
+ */
+@Singleton
+@Slf4j
+public class ExecutionStreamingService {
+    /**
+     * Max number of executions buffered for a slow subscriber, the oldest are dropped as each one is a full snapshot.
+     */
+    public static final int EXECUTION_BUFFER_SIZE = 100;
+
+    /**
+     * Max number of logs buffered for a slow subscriber, the oldest are dropped when it is reached.
+     */
+    public static final int LOG_BUFFER_SIZE = 10000;
+
+    private final Hub<Execution> executionHub;
+
+    private final Hub<LogEntry> logHub;
+
+    @Inject
+    public ExecutionStreamingService(
+        @Named(QueueFactoryInterface.EXECUTION_NAMED) QueueInterface<Execution> executionQueue,
+        @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED) QueueInterface<LogEntry> logQueue
+    ) {
+        this.executionHub = new Hub<>("execution", executionQueue, Execution::getId);
+        this.logHub = new Hub<>("log", logQueue, LogEntry::getExecutionId);
+    }
+
+    /**
+     * Receive the executions with the given id, the returned {@link Runnable} must be called to unsubscribe.
+     * The consumer is called on the shared queue thread, so it must not block.
+     */
+    public Runnable subscribeExecution(String executionId, Consumer<Execution> consumer) {
+        return this.executionHub.subscribe(executionId, consumer);
+    }
+
+    /**
+     * Receive the logs of the given execution, the returned {@link Runnable} must be called to unsubscribe.
+     * The consumer is called on the shared queue thread, so it must not block.
+     */
+    public Runnable subscribeLog(String executionId, Consumer<LogEntry> consumer) {
+        return this.logHub.subscribe(executionId, consumer);
+    }
+
+    @PreDestroy
+    public void close() {
+        this.executionHub.close();
+        this.logHub.close();
+    }
+
+    private static class Hub<T> {
+        private final String name;
+        private final QueueInterface<T> queue;
+        private final Function<T, String> key;
+        private final Map<String, Set<Consumer<T>>> subscribers = new ConcurrentHashMap<>();
+        private Runnable cancel;
+
+        private Hub(String name, QueueInterface<T> queue, Function<T, String> key) {
+            this.name = name;
+            this.queue = queue;
+            this.key = key;
+        }
+
+        private synchronized Runnable subscribe(String executionId, Consumer<T> consumer) {
+            subscribers
+                .computeIfAbsent(executionId, s -> ConcurrentHashMap.newKeySet())
+                .add(consumer);
+
+            if (this.cancel == null) {
+                this.cancel = this.queue.receive(this::dispatch);
+            }
+
+            return () -> this.unsubscribe(executionId, consumer);
+        }
+
+        private synchronized void unsubscribe(String executionId, Consumer<T> consumer) {
+            subscribers.computeIfPresent(executionId, (s, consumers) -> {
+                consumers.remove(consumer);
+                return consumers.isEmpty() ? null : consumers;
+            });
+
+            if (subscribers.isEmpty()) {
+                this.close();
+            }
+        }
+
+        private synchronized void close() {
+            if (this.cancel != null) {
+                this.cancel.run();
+                this.cancel = null;
+            }
+        }
+
+        private void dispatch(Either<T, DeserializationException> either) {
+            if (either.isRight()) {
+                log.error("Unable to deserialize the {}: {}", this.name, either.getRight().getMessage());
+                return;
+            }
+
+            String executionId = this.key.apply(either.getLeft());
+            if (executionId == null) {
+                return;
+            }
+
+            Set<Consumer<T>> consumers = subscribers.get(executionId);
+            if (consumers == null) {
+                return;
+            }
+
+            consumers.forEach(consumer -> {
+                try {
+                    consumer.accept(either.getLeft());
+                } catch (Exception e) {
+                    log.warn("Unable to send the {} of execution '{}' to a subscriber", this.name, executionId, e);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package io.kestra.webserver.utils;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A pipe to stream a download written by another thread, with a bounded buffer.
+ * A failure of the writer is thrown to the reader instead of ending the stream, so the response is aborted and not
+ * truncated. The writer is stopped as soon as the reader closes the pipe, or when the reader doesn't read anything
+ * during the write timeout, so it doesn't hold its resources for a client that went away.
+ */
+public class DownloadPipe extends PipedInputStream {
+    private final Duration writeTimeout;
+
+    private final PipedOutputStream pipe;
+
+    private volatile IOException failure;
+
+    private volatile boolean closedByReader;
+
+    public DownloadPipe(int bufferSize, Duration writeTimeout) throws IOException {
+        super(bufferSize);
+
+        this.writeTimeout = writeTimeout;
+        this.pipe = new PipedOutputStream(this);
+    }
+
+    /**
+     * The stream of the writer thread, it must be closed once the download is fully written.
+     */
+    public OutputStream output() {
+        return new Output();
+    }
+
+    /**
+     * End the download with a failure, the reader gets it after the data already written.
+     */
+    public void fail(Exception e) {
+        this.failure = e instanceof IOException ioException ? ioException : new IOException(e.getMessage(), e);
+
+        try {
+            this.pipe.close();
+        } catch (IOException ignored) {
+            // the failure is already given to the reader
+        }
+    }
+
+    @Override
+    public synchronized int read() throws IOException {
+        int read = super.read();
+        if (read == -1 && this.failure != null) {
+            throw this.failure;
+        }
+
+        return read;
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) throws IOException {
+        int read = super.read(b, off, len);
+        if (read == -1 && this.failure != null) {
+            throw this.failure;
+        }
+
+        return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.closedByReader = true;
+        super.close();
+
+        synchronized (this) {
+            this.notifyAll();
+        }
+    }
+
+    /**
+     * Wait for some free space in the buffer, so a write to the pipe never blocks.
+     *
+     * @return the number of bytes that can be written without blocking, at most <code>len</code>
+     */
+    private synchronized int awaitSpace(int len) throws IOException {
+        long deadline = System.nanoTime() + this.writeTimeout.toNanos();
+
+        while (true) {
+            if (this.closedByReader) {
+                throw new IOException("Pipe closed");
+            }
+
+            int free;
+            if (this.in < 0) {
+                free = this.buffer.length;
+            } else if (this.in == this.out) {
+                free = 0;
+            } else if (this.in > this.out) {
+                free = this.buffer.length - (this.in - this.out);
+            } else {
+                free = this.out - this.in;
+            }
+
+            if (free > 0) {
+                return Math.min(free, len);
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new IOException("Timeout after " + this.writeTimeout + " waiting for the reader");
+            }
+
+            // wake up the reader, it notifies back once the buffer is empty
+            this.notifyAll();
+
+            try {
+                this.wait(Math.min(TimeUnit.NANOSECONDS.toMillis(remaining) + 1, 1000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the reader");
+            }
+        }
+    }
+
+    private class Output extends OutputStream {
+        @Override
+        public void write(int b) throws IOException {
+            awaitSpace(1);
+            pipe.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                int count = awaitSpace(len);
+                pipe.write(b, off, count);
+
+                off = off + count;
+                len = len - count;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            pipe.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            pipe.close();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.kestra.webserver.utils;
 
+import io.kestra.core.repositories.CursorPageable;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Sort;
 import io.micronaut.http.HttpStatus;
@@ -18,6 +19,14 @@ public class PageableUtils {
         );
     }
 
+    /**
+     * @param cursor the cursor of the previous page, to fetch the next one instead of the page number
+     * @param countLimit the maximum number of results to count, the total is capped when reached
+     */
+    public static Pageable from(int page, int size, List<String> sort, Function<String, String> sortMapper, String cursor, Integer countLimit) throws HttpStatusException {
+        return CursorPageable.of(from(page, size, sort, sortMapper), cursor, countLimit);
+    }
+
     public static Pageable from(int page, int size, List<String> sort) throws HttpStatusException {
         return Pageable.from(
             page,
@@ -11,12 +11,15 @@ import io.kestra.core.models.triggers.types.Webhook;
 import io.kestra.core.models.executions.TaskRun;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.repositories.AbstractExecutionRepositoryTest;
 import io.kestra.core.repositories.ExecutionRepositoryInterface;
 import io.kestra.core.repositories.FlowRepositoryInterface;
 import io.kestra.core.runners.InputsTest;
 import io.kestra.core.utils.Await;
 import io.kestra.core.utils.IdUtils;
 import io.kestra.webserver.controllers.h2.JdbcH2ControllerTest;
+import io.kestra.webserver.responses.BulkOperation;
+import io.kestra.webserver.responses.BulkResponse;
 import io.kestra.webserver.responses.PagedResults;
 import io.micronaut.core.type.Argument;
 import io.micronaut.data.model.Pageable;
@@ -729,4 +732,50 @@ class ExecutionControllerTest extends JdbcH2ControllerTest {
         assertThat(execution.getTaskRunList().size(), is(1));
         assertThat(execution.getTaskRunList().get(0).getState().getCurrent(), is(State.Type.KILLED));
     }
+
+    @Test
+    void restartByQueryFailure() {
+        String namespace = "io.kestra.tests.bulk.restart";
+        executionRepositoryInterface.save(AbstractExecutionRepositoryTest.builder(State.Type.RUNNING, null, namespace).build());
+
+        HttpClientResponseException e = assertThrows(HttpClientResponseException.class, () -> client.toBlocking().retrieve(
+            HttpRequest.POST("/api/v1/executions/restart/by-query?namespace=" + namespace, ImmutableMap.of()),
+            BulkResponse.class
+        ));
+
+        assertThat(e.getStatus(), is(HttpStatus.CONFLICT));
+        assertThat(e.getResponse().getBody(String.class).get(), containsString("Execution must be terminated to be restarted"));
+    }
+
+    @Test
+    void bulkDeleteByQuery() throws TimeoutException {
+        String namespace = "io.kestra.tests.bulk";
+        List<String> ids = IntStream.range(0, 3)
+            .mapToObj(i -> executionRepositoryInterface.save(AbstractExecutionRepositoryTest.builder(State.Type.SUCCESS, null, namespace).build()).getId())
+            .toList();
+
+        BulkOperation operation = client.toBlocking().retrieve(
+            HttpRequest.POST("/api/v1/executions/bulk/DELETE/by-query?namespace=" + namespace, Map.of()),
+            BulkOperation.class
+        );
+        assertThat(operation.getId(), notNullValue());
+        assertThat(operation.getType(), is(BulkOperation.Type.DELETE));
+
+        Await.until(
+            () -> client.toBlocking().retrieve(HttpRequest.GET("/api/v1/executions/bulk/" + operation.getId()), BulkOperation.class).getState() == BulkOperation.State.SUCCESS,
+            Duration.ofMillis(100),
+            Duration.ofSeconds(10)
+        );
+
+        BulkOperation ended = client.toBlocking().retrieve(HttpRequest.GET("/api/v1/executions/bulk/" + operation.getId()), BulkOperation.class);
+        assertThat(ended.getCount(), is(3));
+        assertThat(ended.getErrors(), is(0));
+        ids.forEach(id -> assertThat(executionRepositoryInterface.findById(null, id).isPresent(), is(false)));
+
+        List<BulkOperation> operations = client.toBlocking().retrieve(
+            HttpRequest.GET("/api/v1/executions/bulk"),
+            Argument.listOf(BulkOperation.class)
+        );
+        assertThat(operations.stream().anyMatch(o -> o.getId().equals(operation.getId())), is(true));
+    }
 }
@@ -0,0 +1,64 @@
+package io.kestra.webserver.services;
+
+import io.kestra.core.exceptions.DeserializationException;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.utils.Either;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ExecutionStreamingServiceTest {
+    @SuppressWarnings("unchecked")
+    @Test
+    void dispatch() {
+        QueueInterface<Execution> executionQueue = mock(QueueInterface.class);
+        QueueInterface<LogEntry> logQueue = mock(QueueInterface.class);
+
+        AtomicReference<Consumer<Either<Execution, DeserializationException>>> receiver = new AtomicReference<>();
+        AtomicInteger cancelled = new AtomicInteger();
+        when(executionQueue.receive(any(Consumer.class))).thenAnswer(invocation -> {
+            receiver.set(invocation.getArgument(0));
+            return (Runnable) cancelled::incrementAndGet;
+        });
+
+        ExecutionStreamingService service = new ExecutionStreamingService(executionQueue, logQueue);
+
+        List<Execution> first = new ArrayList<>();
+        List<Execution> second = new ArrayList<>();
+        Runnable cancelFirst = service.subscribeExecution("first", first::add);
+        Runnable cancelSecond = service.subscribeExecution("second", second::add);
+
+        // a single subscription is shared
+        verify(executionQueue, times(1)).receive(any(Consumer.class));
+
+        receiver.get().accept(Either.left(Execution.builder().id("first").build()));
+        receiver.get().accept(Either.left(Execution.builder().id("second").build()));
+        receiver.get().accept(Either.left(Execution.builder().id("other").build()));
+
+        assertThat(first.size(), is(1));
+        assertThat(second.size(), is(1));
+
+        cancelFirst.run();
+        receiver.get().accept(Either.left(Execution.builder().id("first").build()));
+        assertThat(first.size(), is(1));
+        assertThat(cancelled.get(), is(0));
+
+        // the subscription is stopped with the last subscriber
+        cancelSecond.run();
+        assertThat(cancelled.get(), is(1));
+
+        service.subscribeExecution("first", first::add);
+        verify(executionQueue, times(2)).receive(any(Consumer.class));
+    }
+}
@@ -0,0 +1,83 @@
+package io.kestra.webserver.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DownloadPipeTest {
+    @Test
+    void complete() throws Exception {
+        DownloadPipe pipe = new DownloadPipe(16, Duration.ofMinutes(1));
+
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            try (OutputStream output = pipe.output()) {
+                for (int i = 0; i < 100; i++) {
+                    output.write("0123456789".getBytes(StandardCharsets.UTF_8));
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        assertThat(new String(pipe.readAllBytes(), StandardCharsets.UTF_8), is("0123456789".repeat(100)));
+        writer.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void failure() throws Exception {
+        DownloadPipe pipe = new DownloadPipe(16, Duration.ofMinutes(1));
+
+        pipe.output().write("hello".getBytes(StandardCharsets.UTF_8));
+        pipe.fail(new IllegalStateException("Unable to read the logs"));
+
+        byte[] read = new byte[5];
+        assertThat(pipe.read(read), is(5));
+        assertThat(new String(read, StandardCharsets.UTF_8), is("hello"));
+
+        // the reader gets the failure instead of the end of the stream
+        IOException e = assertThrows(IOException.class, pipe::read);
+        assertThat(e.getMessage(), is("Unable to read the logs"));
+    }
+
+    @Test
+    void closedByReader() throws Exception {
+        DownloadPipe pipe = new DownloadPipe(16, Duration.ofMinutes(1));
+
+        // blocked as the buffer is full
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            try {
+                pipe.output().write(new byte[32]);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        Thread.sleep(100);
+        pipe.close();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> writer.get(10, TimeUnit.SECONDS));
+        assertThat(e.getCause().getCause(), instanceOf(IOException.class));
+        assertThat(e.getCause().getCause().getMessage(), is("Pipe closed"));
+    }
+
+    @Test
+    void writeTimeout() throws Exception {
+        DownloadPipe pipe = new DownloadPipe(16, Duration.ofMillis(100));
+
+        // nothing is read
+        IOException e = assertThrows(IOException.class, () -> pipe.output().write(new byte[32]));
+        assertThat(e.getMessage(), containsString("waiting for the reader"));
+    }
+}